@@ -172,6 +172,7 @@ public interface Exchange {
     // to be propagated to any remote system supporting the LRA framework
     String SAGA_LONG_RUNNING_ACTION = "Long-Running-Action";
 
+    String MAXIMUM_ASYNC_DELAYED_REDELIVERIES = "CamelMaximumAsyncDelayedRedeliveries";
     String MAXIMUM_CACHE_POOL_SIZE     = "CamelMaximumCachePoolSize";
     String MAXIMUM_ENDPOINT_CACHE_SIZE = "CamelMaximumEndpointCacheSize";
     String MAXIMUM_SIMPLE_CACHE_SIZE = "CamelMaximumSimpleCacheSize";
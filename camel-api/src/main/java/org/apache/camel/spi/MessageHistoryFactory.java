@@ -18,6 +18,7 @@ package org.apache.camel.spi;
 
 import java.util.Date;
 
+import org.apache.camel.Exchange;
 import org.apache.camel.MessageHistory;
 import org.apache.camel.NamedNode;
 
@@ -35,4 +36,25 @@ public interface MessageHistoryFactory {
      * @return a new {@link MessageHistory}
      */
     MessageHistory newMessageHistory(String routeId, NamedNode node, long timestamp);
+
+    /**
+     * Whether message history should be recorded for the given exchange.
+     * <p/>
+     * This is only called when the exchange does not yet have any message history, and therefore
+     * allows to only record message history for a sample of the exchanges.
+     *
+     * @param exchange the exchange
+     * @return <tt>true</tt> to record message history, <tt>false</tt> to skip
+     */
+    default boolean isRecordMessageHistory(Exchange exchange) {
+        return true;
+    }
+
+    /**
+     * The maximum number of {@link MessageHistory} entries to keep per exchange, where the oldest entries
+     * are discarded when the maximum has been reached. Use zero or negative value to keep all entries.
+     */
+    default int getMaximumHistorySize() {
+        return 0;
+    }
 }
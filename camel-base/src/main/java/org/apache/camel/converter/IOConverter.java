@@ -42,6 +42,7 @@ import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.Properties;
 import java.util.function.Supplier;
 
@@ -182,12 +183,8 @@ public final class IOConverter {
 
     @Converter
     public static byte[] toByteArray(File file) throws IOException {
-        InputStream is = toInputStream(file);
-        try {
-            return toBytes(is);
-        } finally {
-            IOHelper.close(is, "file", LOG);
-        }
+        // read the file into a single array of the file size
+        return Files.readAllBytes(file.toPath());
     }
 
     @Converter
@@ -17,15 +17,15 @@
 package org.apache.camel.converter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
-import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,20 +63,16 @@ public final class NIOConverter {
 
     @Converter
     public static ByteBuffer toByteBuffer(File file) throws IOException {
-        InputStream in = null;
-        try {
-            byte[] buf = new byte[(int)file.length()];
-            in = IOHelper.buffered(new FileInputStream(file));
-            int sizeLeft = (int)file.length();
-            int offset = 0;
-            while (sizeLeft > 0) {
-                int readSize = in.read(buf, offset, sizeLeft);
-                sizeLeft -= readSize;
-                offset += readSize;
+        // read the file directly into the buffer using the file channel
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate((int) channel.size());
+            while (buf.hasRemaining()) {
+                if (channel.read(buf) < 0) {
+                    break;
+                }
             }
-            return ByteBuffer.wrap(buf);
-        } finally {
-            IOHelper.close(in, "Failed to close file stream: " + file.getPath(), LOG);
+            buf.flip();
+            return buf;
         }
     }
 
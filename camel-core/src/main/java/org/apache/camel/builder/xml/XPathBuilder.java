@@ -26,6 +26,7 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.namespace.QName;
 import javax.xml.transform.dom.DOMSource;
@@ -103,6 +104,9 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
 
     private CamelContext camelContext;
     private final Queue<XPathExpression> pool = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() traverses the queue, so keep track of the size separately
+    private final AtomicInteger poolSize = new AtomicInteger();
+    private int maximumPoolSize;
     private final Queue<XPathExpression> poolLogNamespaces = new ConcurrentLinkedQueue<>();
     private final String text;
     private final ThreadLocal<Exchange> exchange = new ThreadLocal<>();
@@ -503,6 +507,21 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         return this;
     }
 
+    /**
+     * Sets the maximum number of pre compiled xpath expressions to keep in the pool for reuse.
+     * <p/>
+     * The pool grows on demand to the number of threads concurrently evaluating this expression,
+     * and this option can be used to bound the memory it uses after a burst of concurrent load.
+     * <p/>
+     * The default value is 0 which does not bound the pool.
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder maximumPoolSize(int maximumPoolSize) {
+        setMaximumPoolSize(maximumPoolSize);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -560,6 +579,21 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
         this.threadSafety = threadSafety;
     }
 
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Gets the number of pre compiled xpath expressions currently kept in the pool for reuse.
+     */
+    public int getPoolSize() {
+        return poolSize.get();
+    }
+
     /**
      * Gets the namespace context, can be <tt>null</tt> if no custom context has
      * been assigned.
@@ -875,6 +909,7 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
                 throw new RuntimeExpressionException("Cannot create xpath expression", e);
             }
         } else {
+            poolSize.decrementAndGet();
             LOG.trace("Acquired XPathExpression from pool");
         }
         try {
@@ -883,9 +918,15 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
             }
             return doInEvaluateAs(xpathExpression, exchange, resultQName);
         } finally {
-            // release it back to the pool
-            pool.add(xpathExpression);
-            LOG.trace("Released XPathExpression back to pool");
+            // release it back to the pool, unless the pool is full
+            int size = poolSize.incrementAndGet();
+            if (maximumPoolSize <= 0 || size <= maximumPoolSize) {
+                pool.add(xpathExpression);
+                LOG.trace("Released XPathExpression back to pool");
+            } else {
+                poolSize.decrementAndGet();
+                LOG.trace("Discarded XPathExpression as pool is full");
+            }
         }
     }
 
@@ -1315,6 +1356,7 @@ public class XPathBuilder extends ServiceSupport implements CamelContextAware, E
     @Override
     public void doStop() throws Exception {
         pool.clear();
+        poolSize.set(0);
         poolLogNamespaces.clear();
     }
 
@@ -23,8 +23,9 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.ErrorListener;
@@ -74,7 +75,9 @@ public class XsltBuilder implements Processor {
     private Map<String, Object> parameters = new HashMap<>();
     private XmlConverter converter = new XmlConverter();
     private Templates template;
-    private volatile BlockingQueue<Transformer> transformers;
+    private volatile Queue<Transformer> transformers;
+    private final AtomicInteger transformersSize = new AtomicInteger();
+    private int transformerCacheSize;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
     private URIResolver uriResolver;
@@ -265,8 +268,11 @@ public class XsltBuilder implements Processor {
      * @param numberToCache  the maximum number of transformers to cache
      */
     public XsltBuilder transformerCacheSize(int numberToCache) {
+        // use a lock free queue as the transformers are acquired and released for every exchange
+        transformerCacheSize = numberToCache;
+        transformersSize.set(0);
         if (numberToCache > 0) {
-            transformers = new ArrayBlockingQueue<>(numberToCache);
+            transformers = new ConcurrentLinkedQueue<>();
         } else {
             transformers = null;
         }
@@ -294,8 +300,11 @@ public class XsltBuilder implements Processor {
 
     public void setTemplate(Templates template) {
         this.template = template;
-        if (transformers != null) {
-            transformers.clear();
+        Queue<Transformer> queue = transformers;
+        if (queue != null) {
+            while (queue.poll() != null) {
+                transformersSize.decrementAndGet();
+            }
         }
     }
     
@@ -420,16 +429,23 @@ public class XsltBuilder implements Processor {
     // Implementation methods
     // -------------------------------------------------------------------------
     private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
+        Queue<Transformer> queue = transformers;
+        if (queue != null && transformersSize.incrementAndGet() <= transformerCacheSize) {
             transformer.reset();
-            transformers.offer(transformer);
+            queue.offer(transformer);
+        } else if (queue != null) {
+            transformersSize.decrementAndGet();
         }
     }
 
     private Transformer getTransformer() throws Exception {
-        Transformer t = null; 
-        if (transformers != null) {
-            t = transformers.poll();
+        Transformer t = null;
+        Queue<Transformer> queue = transformers;
+        if (queue != null) {
+            t = queue.poll();
+            if (t != null) {
+                transformersSize.decrementAndGet();
+            }
         }
         if (t == null) {
             t = createTransformer();
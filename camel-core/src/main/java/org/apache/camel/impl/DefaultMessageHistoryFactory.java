@@ -16,6 +16,7 @@
  */
 package org.apache.camel.impl;
 
+import org.apache.camel.Exchange;
 import org.apache.camel.MessageHistory;
 import org.apache.camel.NamedNode;
 import org.apache.camel.spi.MessageHistoryFactory;
@@ -23,8 +24,52 @@ import org.apache.camel.support.DefaultMessageHistory;
 
 public class DefaultMessageHistoryFactory implements MessageHistoryFactory {
 
+    private int samplingInterval = 1;
+    private int maximumHistorySize;
+
     @Override
     public MessageHistory newMessageHistory(String routeId, NamedNode node, long timestamp) {
         return new DefaultMessageHistory(routeId, node, timestamp);
     }
+
+    @Override
+    public boolean isRecordMessageHistory(Exchange exchange) {
+        if (samplingInterval <= 1) {
+            return true;
+        }
+        // use the exchange id so the decision is the same for the exchange at every node it is routed to
+        return (exchange.getExchangeId().hashCode() & Integer.MAX_VALUE) % samplingInterval == 0;
+    }
+
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * To only record message history for 1 out of every N exchanges.
+     * <p/>
+     * The default value is 1 which records message history for all exchanges.
+     */
+    public void setSamplingInterval(int samplingInterval) {
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("The sampling interval must be a positive number, was: " + samplingInterval);
+        }
+        this.samplingInterval = samplingInterval;
+    }
+
+    @Override
+    public int getMaximumHistorySize() {
+        return maximumHistorySize;
+    }
+
+    /**
+     * The maximum number of message history entries to keep per exchange, where the oldest entries are
+     * discarded when the maximum has been reached. This bounds the memory used by exchanges which are
+     * routed to many nodes, such as in loops.
+     * <p/>
+     * The default value is 0 which keeps all entries.
+     */
+    public void setMaximumHistorySize(int maximumHistorySize) {
+        this.maximumHistorySize = maximumHistorySize;
+    }
 }
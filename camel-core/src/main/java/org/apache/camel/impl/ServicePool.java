@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -101,7 +102,12 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
         }
         S s = getPool(endpoint).acquire();
         if (s != null && cache != null) {
-            cache.putIfAbsent(new Key<>(s), s);
+            // a lookup is a lock-free read which also updates the hit/miss statistics,
+            // so only pay for the write when the service is not yet known
+            Key<S> key = new Key<>(s);
+            if (cache.get(key) == null) {
+                cache.put(key, s);
+            }
         }
         return s;
     }
@@ -117,7 +123,12 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
     }
 
     protected Pool<S> getPool(Endpoint endpoint) {
-        return pool.computeIfAbsent(endpoint, this::createPool);
+        // computeIfAbsent locks the bin even when the pool exists, so try a plain get first
+        Pool<S> answer = pool.get(endpoint);
+        if (answer == null) {
+            answer = pool.computeIfAbsent(endpoint, this::createPool);
+        }
+        return answer;
     }
 
     private Pool<S> createPool(Endpoint endpoint) {
@@ -273,6 +284,8 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
     private class MultiplePool implements Pool<S> {
         private final Endpoint endpoint;
         private final ConcurrentLinkedQueue<S> queue = new ConcurrentLinkedQueue<>();
+        // ConcurrentLinkedQueue.size() traverses the queue, so keep track of the size separately
+        private final AtomicInteger queueSize = new AtomicInteger();
 
         public MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
@@ -281,7 +294,9 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
         @Override
         public S acquire() throws Exception {
             S s = queue.poll();
-            if (s == null) {
+            if (s != null) {
+                queueSize.decrementAndGet();
+            } else {
                 s = producer.apply(endpoint);
                 s.start();
             }
@@ -290,27 +305,33 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
 
         @Override
         public void release(S s) {
-            if (queue.size() < capacity) {
+            if (queueSize.incrementAndGet() <= capacity) {
                 queue.add(s);
             } else {
+                queueSize.decrementAndGet();
                 ServicePool.stop(s);
             }
         }
 
         @Override
         public int size() {
-            return queue.size();
+            return queueSize.get();
         }
 
         @Override
         public void stop() {
-            queue.forEach(ServicePool::stop);
-            queue.clear();
+            S s;
+            while ((s = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                ServicePool.stop(s);
+            }
         }
 
         @Override
         public void evict(S s) {
-            queue.remove(s);
+            if (queue.remove(s)) {
+                queueSize.decrementAndGet();
+            }
             ServicePool.stop(s);
         }
     }
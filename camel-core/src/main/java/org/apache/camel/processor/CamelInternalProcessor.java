@@ -83,6 +83,7 @@ import org.slf4j.LoggerFactory;
 public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    private int statefulAdvices;
 
     public CamelInternalProcessor() {
     }
@@ -98,6 +99,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
      */
     public void addAdvice(CamelInternalProcessorAdvice<?> advice) {
         advices.add(advice);
+        if (advice.hasState()) {
+            statefulAdvices++;
+        }
         // ensure advices are sorted so they are in the order we want
         advices.sort(OrderedComparator.get());
     }
@@ -140,27 +144,46 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        // optimise to use object array for states
-        final Object[] states = new Object[advices.size()];
+        // optimise to use object array for the states of the stateful advices only, which is
+        // only created when any of the advices returned state (eg the debugger is not enabled by default)
+        Object[] states = null;
+        int stateIndex = 0;
         // optimise for loop using index access to avoid creating iterator object
         for (int i = 0; i < advices.size(); i++) {
             CamelInternalProcessorAdvice task = advices.get(i);
             try {
                 Object state = task.before(exchange);
-                states[i] = state;
+                if (task.hasState()) {
+                    if (state != null) {
+                        if (states == null) {
+                            states = createStates(statefulAdvices);
+                        }
+                        states[stateIndex] = state;
+                    }
+                    stateIndex++;
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 ocallback.done(true);
                 return true;
             }
         }
+        final Object[] adviceStates = states;
+        final int adviceStatesSize = stateIndex;
 
         // create internal callback which will execute the advices in reverse order when done
         AsyncCallback callback = doneSync -> {
             try {
+                int index = adviceStatesSize;
                 for (int i = advices.size() - 1; i >= 0; i--) {
                     CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states[i];
+                    Object state = null;
+                    if (task.hasState()) {
+                        index--;
+                        if (adviceStates != null) {
+                            state = adviceStates[index];
+                        }
+                    }
                     try {
                         task.after(exchange, state);
                     } catch (Throwable e) {
@@ -238,6 +261,15 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         }
     }
 
+    /**
+     * Creates the array to keep the states of the stateful advices while the {@link Exchange} is being processed.
+     *
+     * @param size  the number of stateful advices
+     */
+    protected Object[] createStates(int size) {
+        return new Object[size];
+    }
+
     @Override
     public String toString() {
         return processor != null ? processor.toString() : super.toString();
@@ -298,6 +330,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 uow.afterRoute(exchange, route);
             }
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -323,6 +360,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object state) throws Exception {
             inflightRepository.remove(exchange, id);
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -392,6 +434,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         private static boolean isCamelStopping(CamelContext context) {
             if (context instanceof StatefulService) {
                 StatefulService ss = (StatefulService) context;
@@ -447,6 +494,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // noop
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         @Override
         public int getOrder() {
             // we want tracer just before calling the processor
@@ -628,6 +680,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public MessageHistory before(Exchange exchange) throws Exception {
             List<MessageHistory> list = exchange.getProperty(Exchange.MESSAGE_HISTORY, List.class);
             if (list == null) {
+                if (!factory.isRecordMessageHistory(exchange)) {
+                    return null;
+                }
                 list = new LinkedList<>();
                 exchange.setProperty(Exchange.MESSAGE_HISTORY, list);
             }
@@ -644,6 +699,12 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
             MessageHistory history = factory.newMessageHistory(targetRouteId, definition, System.currentTimeMillis());
             list.add(history);
+            int max = factory.getMaximumHistorySize();
+            if (max > 0) {
+                while (list.size() > max) {
+                    list.remove(0);
+                }
+            }
             return history;
         }
 
@@ -736,5 +797,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object data) throws Exception {
             // noop
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 }
@@ -49,6 +49,19 @@ public interface CamelInternalProcessorAdvice<T> {
      */
     void after(Exchange exchange, T data) throws Exception;
 
+    /**
+     * Whether this advice has state returned from the {@link #before(org.apache.camel.Exchange)} method
+     * which must be kept and provided to the {@link #after(org.apache.camel.Exchange, Object)} method.
+     * <p/>
+     * Advices which always return <tt>null</tt> can return <tt>false</tt>, which allows the routing engine
+     * to avoid keeping track of state per exchange for this advice. The routing engine only keeps track of state
+     * for an exchange when any of the stateful advices returned state, so advices which only have state in some
+     * situations (such as when debugging) should return <tt>null</tt> otherwise.
+     */
+    default boolean hasState() {
+        return true;
+    }
+
     /**
      * Wrap an InstrumentationProcessor into a CamelInternalProcessorAdvice
      */
@@ -21,7 +21,6 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -66,6 +65,8 @@ import org.apache.camel.util.URISupport;
 public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport implements AsyncProcessor, ShutdownPrepared, Navigate<Processor> {
 
     protected final AtomicInteger redeliverySleepCounter = new AtomicInteger();
+    protected final AtomicInteger redeliveryScheduledCounter = new AtomicInteger();
+    protected volatile int maximumAsyncDelayedRedeliveries;
     protected ScheduledExecutorService executorService;
     protected final CamelContext camelContext;
     protected final AsyncProcessorAwaitManager awaitManager;
@@ -136,6 +137,15 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
             }
             this.exchangeFormatter = formatter;
         }
+
+        try {
+            Integer max = CamelContextHelper.parseInteger(camelContext, camelContext.getGlobalOption(Exchange.MAXIMUM_ASYNC_DELAYED_REDELIVERIES));
+            if (max != null) {
+                this.maximumAsyncDelayedRedeliveries = max;
+            }
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
     }
 
     public void process(Exchange exchange) {
@@ -341,6 +351,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
         Exchange original;
         Exchange exchange;
         AsyncCallback callback;
+        Thread callerThread;
         boolean sync = true;
         int redeliveryCounter;
         long redeliveryDelay;
@@ -370,12 +381,37 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
             this.original = defensiveCopyExchangeIfNeeded(exchange);
             this.exchange = exchange;
             this.callback = callback;
+            this.callerThread = Thread.currentThread();
         }
 
         public String toString() {
             return "Step[" + exchange.getExchangeId() + "," + RedeliveryErrorHandler.this + "]";
         }
 
+        /**
+         * Reserves a slot for an asynchronous delayed redelivery.
+         *
+         * @return <tt>true</tt> if the redelivery can be scheduled, <tt>false</tt> if the maximum number of
+         * scheduled redeliveries has been reached
+         */
+        protected boolean tryReserveScheduledRedelivery() {
+            int max = maximumAsyncDelayedRedeliveries;
+            if (max <= 0) {
+                redeliveryScheduledCounter.incrementAndGet();
+                return true;
+            }
+            while (true) {
+                int current = redeliveryScheduledCounter.get();
+                if (current >= max) {
+                    log.debug("Maximum {} scheduled redeliveries reached for exchangeId: {}", max, exchange.getExchangeId());
+                    return false;
+                }
+                if (redeliveryScheduledCounter.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
         /**
          * Redelivery logic.
          */
@@ -434,7 +470,20 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                 if (redeliveryDelay > 0) {
                     // okay there is a delay so create a scheduled task to have it executed in the future
 
-                    if (currentRedeliveryPolicy.isAsyncDelayedRedelivery() && !exchange.isTransacted()) {
+                    boolean asyncDelayed = currentRedeliveryPolicy.isAsyncDelayedRedelivery() && !exchange.isTransacted();
+                    if (asyncDelayed && !tryReserveScheduledRedelivery()) {
+                        if (Thread.currentThread() == callerThread) {
+                            // too many redeliveries are already scheduled, so block the caller thread
+                            // which applies back pressure on the consumer
+                            asyncDelayed = false;
+                        } else {
+                            // we are not on the caller thread (eg the redelivery scheduler) which must not be blocked,
+                            // and as this exchange has already been accepted for asynchronous redelivery then schedule it again
+                            redeliveryScheduledCounter.incrementAndGet();
+                        }
+                    }
+
+                    if (asyncDelayed) {
 
                         // we are doing a redelivery then a thread pool must be configured (see the doStart method)
                         ObjectHelper.notNull(executorService, "Redelivery is enabled but ExecutorService has not been configured.", this);
@@ -443,11 +492,20 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                         if (log.isTraceEnabled()) {
                             log.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", redeliveryDelay, exchange.getExchangeId());
                         }
-                        executorService.schedule(() -> ReactiveHelper.schedule(this::redeliver), redeliveryDelay, TimeUnit.MILLISECONDS);
+                        try {
+                            executorService.schedule(() -> {
+                                redeliveryScheduledCounter.decrementAndGet();
+                                ReactiveHelper.schedule(this::redeliver);
+                            }, redeliveryDelay, TimeUnit.MILLISECONDS);
+                        } catch (RejectedExecutionException e) {
+                            redeliveryScheduledCounter.decrementAndGet();
+                            throw e;
+                        }
 
                     } else {
                         // async delayed redelivery was disabled or we are transacted so we must be synchronous
-                        // as the transaction manager requires to execute in the same thread context
+                        // as the transaction manager requires to execute in the same thread context,
+                        // or too many redeliveries are already scheduled
                         try {
                             // we are doing synchronous redelivery and use thread sleep, so we keep track using a counter how many are sleeping
                             redeliverySleepCounter.incrementAndGet();
@@ -1277,12 +1335,27 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
      * Gets the number of exchanges that are pending for redelivery
      */
     public int getPendingRedeliveryCount() {
-        int answer = redeliverySleepCounter.get();
-        if (executorService instanceof ThreadPoolExecutor) {
-            answer += ((ThreadPoolExecutor) executorService).getQueue().size();
-        }
+        return redeliverySleepCounter.get() + redeliveryScheduledCounter.get();
+    }
 
-        return answer;
+    /**
+     * Gets the maximum number of asynchronous delayed redeliveries which can be scheduled at the same time
+     * by this error handler, or <tt>0</tt> if unbounded.
+     */
+    public int getMaximumAsyncDelayedRedeliveries() {
+        return maximumAsyncDelayedRedeliveries;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous delayed redeliveries which can be scheduled at the same time
+     * by this error handler. When the limit is reached, then redeliveries are done synchronously which
+     * blocks the caller thread and thereby applies back pressure on the consumer.
+     * <p/>
+     * Will by default use the value from the global option {@link Exchange#MAXIMUM_ASYNC_DELAYED_REDELIVERIES}.
+     * A value of <tt>0</tt> or less means unbounded.
+     */
+    public void setMaximumAsyncDelayedRedeliveries(int maximumAsyncDelayedRedeliveries) {
+        this.maximumAsyncDelayedRedeliveries = maximumAsyncDelayedRedeliveries;
     }
 
     @Override
@@ -69,6 +69,7 @@ public class SharedCamelInternalProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(SharedCamelInternalProcessor.class);
     private final List<CamelInternalProcessorAdvice> advices = new ArrayList<>();
+    private final int statefulAdvices;
 
     public SharedCamelInternalProcessor(CamelInternalProcessorAdvice... advices) {
         if (advices != null) {
@@ -76,6 +77,7 @@ public class SharedCamelInternalProcessor {
             // ensure advices are sorted so they are in the order we want
             this.advices.sort(OrderedComparator.get());
         }
+        this.statefulAdvices = (int) this.advices.stream().filter(CamelInternalProcessorAdvice::hasState).count();
     }
 
     /**
@@ -127,14 +129,23 @@ public class SharedCamelInternalProcessor {
             return true;
         }
 
-        // optimise to use object array for states
-        final Object[] states = new Object[advices.size()];
+        // optimise to use object array for the states of the stateful advices only, which is
+        // only created when any of the advices returned state
+        Object[] states = null;
         // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0; i < advices.size(); i++) {
+        for (int i = 0, stateIndex = 0; i < advices.size(); i++) {
             CamelInternalProcessorAdvice task = advices.get(i);
             try {
                 Object state = task.before(exchange);
-                states[i] = state;
+                if (task.hasState()) {
+                    if (state != null) {
+                        if (states == null) {
+                            states = new Object[statefulAdvices];
+                        }
+                        states[stateIndex] = state;
+                    }
+                    stateIndex++;
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 ocallback.done(true);
@@ -238,9 +249,15 @@ public class SharedCamelInternalProcessor {
 
             // we should call after in reverse order
             try {
-                for (int i = advices.size() - 1; i >= 0; i--) {
+                for (int i = advices.size() - 1, stateIndex = statefulAdvices; i >= 0; i--) {
                     CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states[i];
+                    Object state = null;
+                    if (task.hasState()) {
+                        stateIndex--;
+                        if (states != null) {
+                            state = states[stateIndex];
+                        }
+                    }
                     try {
                         task.after(exchange, state);
                     } catch (Throwable e) {
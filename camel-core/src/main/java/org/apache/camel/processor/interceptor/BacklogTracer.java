@@ -52,6 +52,7 @@ public final class BacklogTracer extends ServiceSupport {
     private int backlogSize = 1000;
     private boolean removeOnDump = true;
     private int bodyMaxChars = 128 * 1024;
+    private int samplingInterval = 1;
     private boolean bodyIncludeStreams;
     private boolean bodyIncludeFiles = true;
     // a pattern to filter tracing nodes
@@ -95,6 +96,11 @@ public final class BacklogTracer extends ServiceSupport {
             return false;
         }
 
+        // use the exchange id so the decision is the same for the exchange at every node it is routed to
+        if (samplingInterval > 1 && (exchange.getExchangeId().hashCode() & Integer.MAX_VALUE) % samplingInterval != 0) {
+            return false;
+        }
+
         boolean pattern = true;
         boolean filter = true;
 
@@ -189,6 +195,20 @@ public final class BacklogTracer extends ServiceSupport {
         this.bodyMaxChars = bodyMaxChars;
     }
 
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * To only trace 1 out of every N exchanges. The default value is 1 which traces all exchanges.
+     */
+    public void setSamplingInterval(int samplingInterval) {
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("The sampling interval must be a positive number, was: " + samplingInterval);
+        }
+        this.samplingInterval = samplingInterval;
+    }
+
     public boolean isBodyIncludeStreams() {
         return bodyIncludeStreams;
     }
@@ -24,7 +24,10 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.xpath.XPathConstants;
@@ -462,6 +465,50 @@ public class XPathTest extends ContextTestSupport {
         assertEquals("Claus", s);
     }
 
+    @Test
+    public void testXPathMaximumPoolSize() throws Exception {
+        XPathBuilder builder = XPathBuilder.xpath("foo/bar").stringResult().maximumPoolSize(1);
+        assertEquals(1, builder.getMaximumPoolSize());
+
+        for (int i = 0; i < 5; i++) {
+            String name = builder.evaluate(context, "<foo><bar>cheese" + i + "</bar></foo>", String.class);
+            assertEquals("cheese" + i, name);
+        }
+    }
+
+    @Test
+    public void testXPathMaximumPoolSizeBoundsPoolUnderConcurrentLoad() throws Exception {
+        final XPathBuilder builder = XPathBuilder.xpath("foo/bar").stringResult().maximumPoolSize(2);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicInteger maxPoolSize = new AtomicInteger();
+
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                maxPoolSize.accumulateAndGet(builder.getPoolSize(), Math::max);
+            }
+        });
+        sampler.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 200; j++) {
+                    assertEquals("cheese" + j, builder.evaluate(context, "<foo><bar>cheese" + j + "</bar></foo>", String.class));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        sampler.join();
+        executor.shutdownNow();
+
+        assertTrue("The pool should not grow beyond 2 but was " + maxPoolSize.get(), maxPoolSize.get() <= 2);
+        assertTrue(builder.getPoolSize() > 0 && builder.getPoolSize() <= 2);
+    }
+
     @Test
     public void testXPathString() throws Exception {
         XPathBuilder builder = XPathBuilder.xpath("foo/bar");
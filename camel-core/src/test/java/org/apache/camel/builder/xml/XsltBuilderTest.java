@@ -185,6 +185,22 @@ public class XsltBuilderTest extends ContextTestSupport {
         assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>", exchange.getOut().getBody());
     }
 
+    @Test
+    public void testXsltTransformerCacheSize() throws Exception {
+        URL styleSheet = getClass().getResource("example.xsl");
+
+        XsltBuilder builder = XsltBuilder.xslt(styleSheet).outputString().transformerCacheSize(1);
+
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("<hello>world" + i + "</hello>");
+
+            builder.process(exchange);
+
+            assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world" + i + "</goodbye>", exchange.getOut().getBody());
+        }
+    }
+
     @Test
     public void testXsltOutputBytes() throws Exception {
         URL styleSheet = getClass().getResource("example.xsl");
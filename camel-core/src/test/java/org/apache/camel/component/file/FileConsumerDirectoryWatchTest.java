@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class FileConsumerDirectoryWatchTest extends ContextTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/watch");
+        createDirectory("target/watch");
+        super.setUp();
+    }
+
+    @Test
+    public void testDirectoryWatch() throws Exception {
+        FileConsumer consumer = (FileConsumer) context.getRoute("foo").getConsumer();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader("file://target/watch", "Hello World", Exchange.FILE_NAME, "hello.txt");
+        assertEquals(1, consumer.poll());
+
+        assertMockEndpointsSatisfied();
+
+        // the file is not consumed again due noop and as there are no more changes the directory is not listed
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.poll() == 0 && !consumer.prePollCheck());
+
+        resetMocks();
+        mock.expectedBodiesReceived("Bye World");
+
+        template.sendBodyAndHeader("file://target/watch/sub", "Bye World", Exchange.FILE_NAME, "bye.txt");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.poll() == 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file://target/watch?directoryWatch=true&noop=true&recursive=true&startScheduler=false&initialDelay=0").routeId("foo")
+                    .to("mock:result");
+            }
+        };
+    }
+}
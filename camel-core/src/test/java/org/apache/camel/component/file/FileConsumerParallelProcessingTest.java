@@ -0,0 +1,68 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileConsumerParallelProcessingTest extends ContextTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/parallel");
+        super.setUp();
+    }
+
+    @Test
+    public void testParallelProcessing() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectedFileExists("target/parallel/done/file0.txt");
+        mock.expectedFileExists("target/parallel/done/file9.txt");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("file://target/parallel", "Hello " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String thread = exchange.getIn().getHeader("thread", String.class);
+            assertTrue("Should be processed by the pool: " + thread, thread.contains("FileConsumerProcessing"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file://target/parallel?parallelProcessingPoolSize=4&move=done&initialDelay=0&delay=10")
+                    .routeId("foo").noAutoStartup()
+                    .process(e -> e.getIn().setHeader("thread", Thread.currentThread().getName()))
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.file.Path;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that bodies backed by a file are written using the file channels.
+ */
+public class FileProducerFileChannelTest extends ContextTestSupport {
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        deleteDirectory("target/filechannel");
+        super.setUp();
+    }
+
+    @Test
+    public void testStoreFileExchangeBodyIsPath() throws Exception {
+        template.sendBodyAndHeader("file://target/filechannel/in", "Hello World", Exchange.FILE_NAME, "hello.txt");
+        Path source = new File("target/filechannel/in/hello.txt").toPath();
+
+        template.sendBodyAndHeader("file://target/filechannel/out", source, Exchange.FILE_NAME, "path.txt");
+
+        assertFileExists("target/filechannel/out/path.txt");
+        assertEquals("Hello World", context.getTypeConverter().convertTo(String.class, new File("target/filechannel/out/path.txt")));
+        assertFileExists("target/filechannel/in/hello.txt");
+    }
+
+    @Test
+    public void testStoreFileExchangeBodyIsFileInputStream() throws Exception {
+        template.sendBodyAndHeader("file://target/filechannel/in", "Hello World", Exchange.FILE_NAME, "hello.txt");
+        FileInputStream source = new FileInputStream("target/filechannel/in/hello.txt");
+
+        template.sendBodyAndHeader("file://target/filechannel/out", source, Exchange.FILE_NAME, "stream.txt");
+        template.sendBodyAndHeader("file://target/filechannel/out?fileExist=Append", new FileInputStream("target/filechannel/in/hello.txt"),
+                Exchange.FILE_NAME, "stream.txt");
+
+        assertFileExists("target/filechannel/out/stream.txt");
+        assertEquals("Hello WorldHello World", context.getTypeConverter().convertTo(String.class, new File("target/filechannel/out/stream.txt")));
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+}
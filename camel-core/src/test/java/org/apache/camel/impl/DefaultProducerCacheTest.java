@@ -143,6 +143,29 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         cache.stop();
     }
 
+    @Test
+    public void testCacheHitsAndMisses() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+
+        cache.resetCacheStatistics();
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getHits());
+
+        cache.stop();
+    }
+
     @Override
     public void setUp() throws Exception {
         super.setUp();
@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Channel;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.EventDrivenConsumerRoute;
+import org.apache.camel.processor.CamelInternalProcessor.BacklogDebuggerAdvice;
+import org.apache.camel.processor.CamelInternalProcessor.BacklogTracerAdvice;
+import org.apache.camel.processor.CamelInternalProcessor.MessageHistoryAdvice;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+
+public class CamelInternalProcessorStatesTest extends ContextTestSupport {
+
+    private final List<Object> data = new ArrayList<>();
+
+    @Test
+    public void testRouteChannelNoStates() throws Exception {
+        EventDrivenConsumerRoute route = assertIsInstanceOf(EventDrivenConsumerRoute.class, context.getRoutes().get(0));
+        Channel channel = unwrapChannel(route.getProcessor());
+        CamelInternalProcessor internal = assertIsInstanceOf(CamelInternalProcessor.class, channel);
+        assertNull(internal.getAdvice(MessageHistoryAdvice.class));
+
+        // the advices of the channel which are stateful do not have state when not debugging
+        StatesCountingProcessor processor = new StatesCountingProcessor();
+        processor.addAdvice(internal.getAdvice(BacklogTracerAdvice.class));
+        processor.addAdvice(internal.getAdvice(BacklogDebuggerAdvice.class));
+
+        processor.process(new DefaultExchange(context));
+
+        assertEquals(0, processor.created);
+    }
+
+    @Test
+    public void testStatefulAdvices() throws Exception {
+        StatesCountingProcessor processor = new StatesCountingProcessor();
+        processor.addAdvice(new DataAdvice("a", true));
+        processor.addAdvice(new DataAdvice("b", false));
+        processor.addAdvice(new DataAdvice(null, true));
+        processor.addAdvice(new DataAdvice("d", true));
+
+        processor.process(new DefaultExchange(context));
+
+        // only the stateful advices have room in the states
+        assertEquals(1, processor.created);
+        assertEquals(3, processor.size);
+        // after is called in reverse order with the state from before
+        assertEquals(4, data.size());
+        assertEquals("d", data.get(0));
+        assertNull(data.get(1));
+        assertNull(data.get(2));
+        assertEquals("a", data.get(3));
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setMessageHistory(false);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+    private static final class StatesCountingProcessor extends CamelInternalProcessor {
+
+        private int created;
+        private int size;
+
+        private StatesCountingProcessor() {
+            super(exchange -> exchange.getIn().setBody("Bye World"));
+        }
+
+        @Override
+        protected Object[] createStates(int size) {
+            this.created++;
+            this.size = size;
+            return super.createStates(size);
+        }
+    }
+
+    private final class DataAdvice implements CamelInternalProcessorAdvice<Object> {
+
+        private final Object state;
+        private final boolean hasState;
+
+        private DataAdvice(Object state, boolean hasState) {
+            this.state = state;
+            this.hasState = hasState;
+        }
+
+        @Override
+        public Object before(Exchange exchange) throws Exception {
+            return state;
+        }
+
+        @Override
+        public void after(Exchange exchange, Object data) throws Exception {
+            CamelInternalProcessorStatesTest.this.data.add(data);
+        }
+
+        @Override
+        public boolean hasState() {
+            return hasState;
+        }
+    }
+}
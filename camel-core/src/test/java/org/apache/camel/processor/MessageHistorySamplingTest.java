@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultMessageHistoryFactory;
+import org.junit.Test;
+
+public class MessageHistorySamplingTest extends ContextTestSupport {
+
+    private final DefaultMessageHistoryFactory factory = new DefaultMessageHistoryFactory();
+
+    @Test
+    public void testSampling() throws Exception {
+        factory.setSamplingInterval(2);
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        int sampled = 0;
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            List list = exchange.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+            if (factory.isRecordMessageHistory(exchange)) {
+                sampled++;
+                // should have the complete history when sampled
+                assertEquals(3, list.size());
+            } else {
+                assertNull(list);
+            }
+        }
+        assertTrue("Should have sampled some but not all exchanges", sampled > 0 && sampled < 20);
+    }
+
+    @Test
+    public void testInvalidSamplingInterval() throws Exception {
+        try {
+            factory.setSamplingInterval(0);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            factory.setSamplingInterval(-1);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(1, factory.getSamplingInterval());
+    }
+
+    @Test
+    public void testMaximumHistorySize() throws Exception {
+        factory.setMaximumHistorySize(2);
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        List list = mock.getReceivedExchanges().get(0).getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertEquals(2, list.size());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setMessageHistoryFactory(factory);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                context.setMessageHistory(true);
+
+                from("direct:start")
+                    .to("log:foo")
+                    .to("log:bar")
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Channel;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.EventDrivenConsumerRoute;
+import org.apache.camel.impl.JndiRegistry;
+import org.junit.Test;
+
+public class RedeliveryErrorHandlerMaximumAsyncDelayedNonBlockingTest extends ContextTestSupport {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile RedeliveryErrorHandler errorHandler;
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testRedeliverySchedulerNotBlocked() throws Exception {
+        EventDrivenConsumerRoute route = assertIsInstanceOf(EventDrivenConsumerRoute.class, context.getRoutes().get(0));
+        Pipeline pipeline = assertIsInstanceOf(Pipeline.class, unwrap(route.getProcessor()));
+        Channel channel = assertIsInstanceOf(Channel.class, pipeline.getProcessors().get(0));
+        errorHandler = assertIsInstanceOf(RedeliveryErrorHandler.class, channel.getErrorHandler());
+
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("Hello World");
+
+        template.sendBody("seda:start", "World");
+
+        // the second attempt runs on the redelivery scheduler while the maximum is reached,
+        // which must schedule the next redelivery instead of sleeping on the scheduler thread
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Future<?> probe = scheduler.submit(() -> { });
+        probe.get(500, TimeUnit.MILLISECONDS);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(3, attempts.get());
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry jndi = super.createRegistry();
+        jndi.bind("myScheduler", scheduler);
+        return jndi;
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.MAXIMUM_ASYNC_DELAYED_REDELIVERIES, "1");
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(5).redeliveryDelay(1000)
+                    .asyncDelayedRedelivery().executorServiceRef("myScheduler"));
+
+                from("seda:start")
+                    .process(exchange -> {
+                        int attempt = attempts.incrementAndGet();
+                        if (attempt == 2) {
+                            // another exchange takes the only scheduled redelivery slot
+                            errorHandler.redeliveryScheduledCounter.incrementAndGet();
+                            latch.countDown();
+                        }
+                        if (attempt <= 2) {
+                            throw new IllegalArgumentException("Damn");
+                        }
+                        exchange.getIn().setBody("Hello " + exchange.getIn().getBody(String.class));
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class RedeliveryErrorHandlerMaximumAsyncDelayedTest extends ContextTestSupport {
+
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+    @Test
+    public void testRedelivery() throws Exception {
+        // World is scheduled for async redelivery, but Bye exceeds the maximum
+        // and is redelivered synchronously which blocks the consumer so Camel comes after Bye
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("Hello Bye", "Hello Camel", "Hello World");
+
+        template.sendBody("seda:start", "World");
+        template.sendBody("seda:start", "Bye");
+        template.sendBody("seda:start", "Camel");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.MAXIMUM_ASYNC_DELAYED_REDELIVERIES, "1");
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(5).redeliveryDelay(200).asyncDelayedRedelivery());
+
+                from("seda:start")
+                    .process(exchange -> {
+                        String body = exchange.getIn().getBody(String.class);
+                        int attempt = attempts.merge(body, 1, Integer::sum);
+                        if ("World".equals(body) && attempt <= 3) {
+                            throw new IllegalArgumentException("Damn");
+                        } else if ("Bye".equals(body) && attempt <= 1) {
+                            throw new IllegalArgumentException("Damn");
+                        }
+                        exchange.getIn().setBody("Hello " + body);
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.Test;
+
+public class BinaryExchangeCodecTest extends ContextTestSupport {
+
+    private final BinaryExchangeCodec codec = new BinaryExchangeCodec();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Date now = new Date();
+        List<Object> list = new ArrayList<>();
+        list.add("a");
+        list.add(2L);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Olivier");
+        exchange.getIn().setHeader("number", 123);
+        exchange.getIn().setHeader("negative", -5L);
+        exchange.getIn().setHeader("date", now);
+        exchange.getIn().setHeader("amount", new BigDecimal("12.50"));
+        exchange.getIn().setHeader("text", new StringBuilder("builder"));
+        exchange.getIn().setHeader("list", list);
+        exchange.getOut().setBody(new byte[] {1, 2, 3});
+        exchange.getOut().setHeader("name", "Thomas");
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 5);
+        exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "foo");
+        exchange.setProperty("quote", "Camel rocks");
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        Exchange actual = codec.unmarshallExchange(context, codec.marshallExchange(context, exchange, false, false));
+
+        assertEquals(exchange.getExchangeId(), actual.getExchangeId());
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("number"));
+        assertEquals(-5L, actual.getIn().getHeader("negative"));
+        assertEquals(now, actual.getIn().getHeader("date"));
+        assertEquals(new BigDecimal("12.50"), actual.getIn().getHeader("amount"));
+        assertEquals("builder", actual.getIn().getHeader("text"));
+        // lists are only allowed as headers if serialized headers are allowed
+        assertNull(actual.getIn().getHeader("list"));
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) actual.getOut().getBody());
+        assertEquals("Thomas", actual.getOut().getHeader("name"));
+        assertEquals(5, actual.getProperty(Exchange.AGGREGATED_SIZE));
+        assertEquals("foo", actual.getProperty(Exchange.AGGREGATED_CORRELATION_KEY));
+        // we do not serialize properties to avoid storing all kind of not needed information
+        assertNull(actual.getProperty("quote"));
+        assertIsInstanceOf(IllegalArgumentException.class, actual.getException());
+        assertEquals("Forced", actual.getException().getMessage());
+        assertSame(context, actual.getContext());
+
+        actual = codec.unmarshallExchange(context, codec.marshallExchange(context, exchange, false, true));
+        assertEquals(list, actual.getIn().getHeader("list"));
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("number", 123);
+
+        byte[] data = new SerializationExchangeCodec().marshallExchange(context, exchange, false, false);
+        Exchange actual = codec.unmarshallExchange(context, data);
+
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals(123, actual.getIn().getHeader("number"));
+    }
+
+    @Test
+    public void testCompress() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Hello World ");
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(sb.toString());
+
+        byte[] plain = codec.marshallExchange(context, exchange, false, false);
+        BinaryExchangeCodec compressing = new BinaryExchangeCodec();
+        compressing.setCompress(true);
+        byte[] compressed = compressing.marshallExchange(context, exchange, false, false);
+
+        assertTrue("Compressed size " + compressed.length + " should be less than " + plain.length, compressed.length < plain.length);
+        // the codec detects whether the data is compressed
+        assertEquals(sb.toString(), codec.unmarshallExchange(context, compressed).getIn().getBody());
+    }
+
+    @Test
+    public void testIncludeProperties() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.setProperty("quote", "Camel rocks");
+        exchange.setProperty(Exchange.EXCEPTION_CAUGHT, new IllegalArgumentException("Forced"));
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 3);
+
+        Exchange actual = codec.unmarshallExchange(context, codec.marshallExchange(context, exchange, true, false));
+
+        assertEquals("Camel rocks", actual.getProperty("quote"));
+        assertIsInstanceOf(IllegalArgumentException.class, actual.getProperty(Exchange.EXCEPTION_CAUGHT));
+        assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE));
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        // an aggregated exchange with many parts as with a group exchange strategy
+        List<Object> parts = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            parts.add("Message " + i);
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(parts);
+        for (int i = 0; i < 10; i++) {
+            exchange.getIn().setHeader("header" + i, i);
+        }
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, parts.size());
+
+        byte[] javaData = new SerializationExchangeCodec().marshallExchange(context, exchange, false, false);
+        byte[] binaryData = codec.marshallExchange(context, exchange, false, false);
+
+        assertTrue("Binary size " + binaryData.length + " should be less than " + javaData.length, binaryData.length < javaData.length);
+        assertEquals(parts, codec.unmarshallExchange(context, binaryData).getIn().getBody());
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.camel.TestSupport.createDirectory;
+import static org.apache.camel.TestSupport.deleteDirectory;
+
+public class IndexedFileIdempotentRepositoryTest {
+
+    private File fileStore;
+    private IndexedFileIdempotentRepository repository;
+
+    @Before
+    public void setup() {
+        deleteDirectory("target/indexedstore");
+        createDirectory("target/indexedstore");
+        fileStore = new File("target/indexedstore/data.dat");
+        repository = new IndexedFileIdempotentRepository(fileStore);
+    }
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        repository.start();
+
+        Assert.assertTrue(repository.add("a"));
+        Assert.assertFalse(repository.add("a"));
+        Assert.assertTrue(repository.add("b"));
+        Assert.assertTrue(repository.contains("a"));
+        Assert.assertFalse(repository.contains("c"));
+
+        Assert.assertTrue(repository.remove("a"));
+        Assert.assertFalse(repository.remove("a"));
+        Assert.assertFalse(repository.contains("a"));
+        Assert.assertEquals(1, repository.getSize());
+
+        repository.stop();
+    }
+
+    @Test
+    public void testReloadAfterRestart() throws Exception {
+        repository.start();
+        repository.add("a");
+        repository.add("b");
+        repository.add("c");
+        repository.remove("b");
+        repository.stop();
+
+        IndexedFileIdempotentRepository other = new IndexedFileIdempotentRepository(fileStore);
+        other.start();
+        Assert.assertEquals(2, other.getSize());
+        Assert.assertTrue(other.contains("a"));
+        Assert.assertFalse(other.contains("b"));
+        Assert.assertTrue(other.contains("c"));
+        Assert.assertEquals(2, other.getObsoleteEntries());
+        other.stop();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        repository.setCompactionThreshold(10);
+        repository.start();
+
+        repository.add("keep");
+        for (int i = 0; i < 5; i++) {
+            repository.add("key" + i);
+            repository.remove("key" + i);
+        }
+
+        // the journal is compacted when the 5th key is removed
+        Assert.assertEquals(0, repository.getObsoleteEntries());
+        List<String> lines = Files.readAllLines(fileStore.toPath());
+        Assert.assertEquals(1, lines.size());
+        Assert.assertEquals("+keep", lines.get(0));
+
+        repository.add("more");
+        repository.stop();
+
+        repository.start();
+        Assert.assertTrue(repository.contains("keep"));
+        Assert.assertTrue(repository.contains("more"));
+        Assert.assertEquals(2, repository.getSize());
+        repository.stop();
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        repository.start();
+        repository.add("a");
+        repository.add("b");
+
+        repository.clear();
+
+        Assert.assertEquals(0, repository.getSize());
+        Assert.assertEquals(0, Files.size(fileStore.toPath()));
+        repository.stop();
+    }
+
+}
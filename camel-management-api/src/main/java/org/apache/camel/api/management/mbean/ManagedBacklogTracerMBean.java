@@ -71,6 +71,12 @@ public interface ManagedBacklogTracerMBean {
     @ManagedAttribute(description = "Number of maximum chars in the message body in the trace message. Use zero or negative value to have unlimited size.")
     void setBodyMaxChars(int bodyMaxChars);
 
+    @ManagedAttribute(description = "To only trace 1 out of every N exchanges.")
+    int getSamplingInterval();
+
+    @ManagedAttribute(description = "To only trace 1 out of every N exchanges.")
+    void setSamplingInterval(int samplingInterval);
+
     @ManagedAttribute(description = "Whether to include stream based message body in the trace message.")
     boolean isBodyIncludeStreams();
 
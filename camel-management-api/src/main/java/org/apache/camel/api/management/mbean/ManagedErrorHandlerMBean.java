@@ -47,6 +47,12 @@ public interface ManagedErrorHandlerMBean {
     @ManagedAttribute(description = "Number of Exchanges scheduled for redelivery (waiting to be redelivered in the future)")
     Integer getPendingRedeliveryCount();
 
+    @ManagedAttribute(description = "Maximum number of Exchanges which can be scheduled for asynchronous delayed redelivery (0 = unbounded)")
+    Integer getMaximumAsyncDelayedRedeliveries();
+
+    @ManagedAttribute(description = "Maximum number of Exchanges which can be scheduled for asynchronous delayed redelivery (0 = unbounded)")
+    void setMaximumAsyncDelayedRedeliveries(Integer maximum);
+
     @ManagedAttribute(description = "RedeliveryPolicy for maximum redeliveries")
     Integer getMaximumRedeliveries();
 
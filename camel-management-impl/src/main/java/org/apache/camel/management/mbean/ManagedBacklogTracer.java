@@ -115,6 +115,14 @@ public class ManagedBacklogTracer implements ManagedBacklogTracerMBean {
         backlogTracer.setBodyMaxChars(bodyMaxChars);
     }
 
+    public int getSamplingInterval() {
+        return backlogTracer.getSamplingInterval();
+    }
+
+    public void setSamplingInterval(int samplingInterval) {
+        backlogTracer.setSamplingInterval(samplingInterval);
+    }
+
     public boolean isBodyIncludeStreams() {
         return backlogTracer.isBodyIncludeStreams();
     }
@@ -481,4 +481,22 @@ public class ManagedErrorHandler implements ManagedErrorHandlerMBean {
         return redelivery.getPendingRedeliveryCount();
     }
 
+    public Integer getMaximumAsyncDelayedRedeliveries() {
+        if (!isSupportRedelivery()) {
+            return null;
+        }
+
+        RedeliveryErrorHandler redelivery = (RedeliveryErrorHandler) errorHandler;
+        return redelivery.getMaximumAsyncDelayedRedeliveries();
+    }
+
+    public void setMaximumAsyncDelayedRedeliveries(Integer maximum) {
+        if (!isSupportRedelivery()) {
+            throw new IllegalArgumentException("This error handler does not support redelivery");
+        }
+
+        RedeliveryErrorHandler redelivery = (RedeliveryErrorHandler) errorHandler;
+        redelivery.setMaximumAsyncDelayedRedeliveries(maximum);
+    }
+
 }
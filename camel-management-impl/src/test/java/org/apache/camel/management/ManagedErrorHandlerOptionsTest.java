@@ -53,6 +53,10 @@ public class ManagedErrorHandlerOptionsTest extends ManagementTestSupport {
         Integer max = (Integer) mbeanServer.getAttribute(on, "MaximumRedeliveries");
         assertEquals(3, max.intValue());
 
+        mbeanServer.setAttribute(on, new Attribute("MaximumAsyncDelayedRedeliveries", 100));
+        Integer maxAsync = (Integer) mbeanServer.getAttribute(on, "MaximumAsyncDelayedRedeliveries");
+        assertEquals(100, maxAsync.intValue());
+
         mbeanServer.setAttribute(on, new Attribute("MaximumRedeliveryDelay", Long.valueOf("20000")));
         Long delay = (Long) mbeanServer.getAttribute(on, "MaximumRedeliveryDelay");
         assertEquals(20000, delay.longValue());
@@ -0,0 +1,559 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ExchangeCodec} which marshals the exchange in a compact binary format instead of using Java serialization.
+ * <p/>
+ * The bodies, headers and properties of common types (such as String, numbers, dates and byte arrays) are written
+ * with a type tag and varint encoded lengths, and each header and property name is only written once per exchange.
+ * Other serializable values fall back to Java serialization. The data can optionally be compressed.
+ * <p/>
+ * Data which has not been marshalled by this codec, such as exchanges which has been stored before switching
+ * to this codec, is unmarshalled using the fallback codec, which is by default {@link SerializationExchangeCodec}.
+ */
+public class BinaryExchangeCodec implements ExchangeCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryExchangeCodec.class);
+
+    private static final byte MAGIC1 = 'C';
+    private static final byte MAGIC2 = 'X';
+    private static final byte VERSION = 1;
+    private static final byte FLAG_COMPRESSED = 1;
+    private static final int HEADER_LENGTH = 4;
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int BOOLEAN = 4;
+    private static final int DOUBLE = 5;
+    private static final int FLOAT = 6;
+    private static final int SHORT = 7;
+    private static final int BYTE = 8;
+    private static final int CHARACTER = 9;
+    private static final int BYTES = 10;
+    private static final int DATE = 11;
+    private static final int BIG_DECIMAL = 12;
+    private static final int BIG_INTEGER = 13;
+    private static final int LIST = 14;
+    private static final int SERIALIZED = 15;
+
+    private static final Map<String, Class<?>> RETAINED_PROPERTIES = new LinkedHashMap<>();
+
+    static {
+        RETAINED_PROPERTIES.put(Exchange.AGGREGATED_SIZE, Integer.class);
+        RETAINED_PROPERTIES.put(Exchange.AGGREGATED_TIMEOUT, Long.class);
+        RETAINED_PROPERTIES.put(Exchange.AGGREGATED_COMPLETED_BY, String.class);
+        RETAINED_PROPERTIES.put(Exchange.AGGREGATED_CORRELATION_KEY, String.class);
+        RETAINED_PROPERTIES.put(Exchange.AGGREGATED_COLLECTION_GUARD, String.class);
+    }
+
+    private final ExchangeCodec fallback;
+    private boolean compress;
+
+    public BinaryExchangeCodec() {
+        this(new SerializationExchangeCodec());
+    }
+
+    /**
+     * Creates a codec which unmarshals data which has not been marshalled by this codec using the given codec.
+     */
+    public BinaryExchangeCodec(ExchangeCodec fallback) {
+        this.fallback = fallback;
+    }
+
+    public ExchangeCodec getFallback() {
+        return fallback;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * Whether to compress the marshalled exchanges, which is useful for large bodies of text.
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean includeProperties, boolean allowSerializedHeaders) throws IOException {
+        ObjectHelper.notNull(exchange, "exchange");
+
+        // we do not support files
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile || body instanceof File) {
+            throw new RuntimeExchangeException("Message body of type " + body.getClass().getCanonicalName() + " is not supported by this marshaller.", exchange);
+        }
+
+        // size the buffer for the body, so large bodies are not copied while growing the buffer
+        int size = 256;
+        if (body instanceof byte[]) {
+            size += ((byte[]) body).length;
+        } else if (body instanceof String) {
+            size += ((String) body).length();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(compress ? 256 : size);
+        bytes.write(MAGIC1);
+        bytes.write(MAGIC2);
+        bytes.write(VERSION);
+        bytes.write(compress ? FLAG_COMPRESSED : 0);
+
+        OutputStream os = compress ? new BufferedOutputStream(new DeflaterOutputStream(bytes)) : bytes;
+        Encoder encoder = new Encoder(exchange, new DataOutputStream(os), allowSerializedHeaders);
+        encoder.writeString(exchange.getExchangeId());
+        encoder.writeMessage(exchange.getIn(), "in");
+        encoder.out.writeBoolean(exchange.hasOut());
+        if (exchange.hasOut()) {
+            encoder.writeMessage(exchange.getOut(), "out");
+        }
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (includeProperties && exchange.hasProperties()) {
+            for (Map.Entry<String, Object> entry : exchange.getProperties().entrySet()) {
+                Object value = encoder.getValidValue(entry.getKey(), entry.getValue(), "properties", true);
+                if (value != null) {
+                    properties.put(entry.getKey(), value);
+                }
+            }
+        }
+        // the properties used by the aggregator are always retained
+        for (Map.Entry<String, Class<?>> entry : RETAINED_PROPERTIES.entrySet()) {
+            Object value = exchange.getProperty(entry.getKey(), entry.getValue());
+            if (value != null) {
+                properties.put(entry.getKey(), value);
+            }
+        }
+        encoder.writeVarInt(properties.size());
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            encoder.writeKey(entry.getKey());
+            encoder.writeValue(entry.getValue());
+        }
+
+        encoder.writeValue(exchange.getException());
+        encoder.writeString(exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null);
+        encoder.out.close();
+
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Exchange unmarshallExchange(CamelContext camelContext, byte[] buffer) throws IOException, ClassNotFoundException {
+        if (!isMarshalled(buffer)) {
+            return fallback.unmarshallExchange(camelContext, buffer);
+        }
+        if (buffer[2] != VERSION) {
+            throw new IOException("Unsupported version " + buffer[2] + " of marshalled exchange");
+        }
+
+        InputStream is = new ByteArrayInputStream(buffer, HEADER_LENGTH, buffer.length - HEADER_LENGTH);
+        if ((buffer[3] & FLAG_COMPRESSED) != 0) {
+            is = new InflaterInputStream(is);
+        }
+
+        Decoder decoder = new Decoder(camelContext, new DataInputStream(is));
+        try {
+            Exchange answer = new DefaultExchange(camelContext);
+            answer.setExchangeId(decoder.readString());
+            decoder.readMessage(answer.getIn());
+            if (decoder.in.readBoolean()) {
+                decoder.readMessage(answer.getOut());
+            }
+
+            int properties = decoder.readVarInt();
+            for (int i = 0; i < properties; i++) {
+                answer.setProperty(decoder.readKey(), decoder.readValue());
+            }
+
+            answer.setException((Exception) decoder.readValue());
+            // restore the from endpoint
+            String fromEndpointUri = decoder.readString();
+            if (fromEndpointUri != null) {
+                Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+                if (fromEndpoint != null) {
+                    answer.setFromEndpoint(fromEndpoint);
+                }
+            }
+            return answer;
+        } finally {
+            IOHelper.close(decoder.in);
+        }
+    }
+
+    /**
+     * Whether the data has been marshalled by this codec
+     */
+    public static boolean isMarshalled(byte[] buffer) {
+        return buffer.length >= HEADER_LENGTH && buffer[0] == MAGIC1 && buffer[1] == MAGIC2;
+    }
+
+    /**
+     * Creates the stream to read the values which has been marshalled using Java serialization.
+     */
+    protected ObjectInputStream createObjectInputStream(CamelContext camelContext, InputStream in) throws IOException {
+        if (fallback instanceof SerializationExchangeCodec) {
+            return ((SerializationExchangeCodec) fallback).createObjectInputStream(camelContext, in);
+        }
+        return new SerializationExchangeCodec().createObjectInputStream(camelContext, in);
+    }
+
+    private static final class Encoder {
+        private final Exchange exchange;
+        private final DataOutputStream out;
+        private final boolean allowSerializedHeaders;
+        private final Map<String, Integer> keys = new HashMap<>();
+
+        private Encoder(Exchange exchange, DataOutputStream out, boolean allowSerializedHeaders) {
+            this.exchange = exchange;
+            this.out = out;
+            this.allowSerializedHeaders = allowSerializedHeaders;
+        }
+
+        private void writeMessage(Message message, String type) throws IOException {
+            writeBody(message.getBody(), type);
+
+            Map<String, Object> headers = new LinkedHashMap<>();
+            if (message.hasHeaders()) {
+                for (Map.Entry<String, Object> entry : message.getHeaders().entrySet()) {
+                    Object value = getValidValue(entry.getKey(), entry.getValue(), type + " headers", false);
+                    if (value != null) {
+                        headers.put(entry.getKey(), value);
+                    }
+                }
+            }
+            writeVarInt(headers.size());
+            for (Map.Entry<String, Object> entry : headers.entrySet()) {
+                writeKey(entry.getKey());
+                writeValue(entry.getValue());
+            }
+
+            out.writeBoolean(message.isFault());
+        }
+
+        private void writeBody(Object body, String type) throws IOException {
+            if (body != null && !isSupported(body)) {
+                Serializable converted = exchange.getContext().getTypeConverter().convertTo(Serializable.class, exchange, body);
+                if (converted == null) {
+                    LOG.warn("Exchange {} body containing object: {} of type: {} cannot be serialized, it will be excluded.", type, body, body.getClass().getCanonicalName());
+                }
+                body = converted;
+            }
+            writeValue(body);
+        }
+
+        /**
+         * Gets the value to marshal of the header or property using the same rules as {@link DefaultExchangeHolder}
+         *
+         * @return the value, or <tt>null</tt> if the value should be excluded
+         */
+        private Object getValidValue(String name, Object value, String type, boolean property) {
+            if (value == null) {
+                return null;
+            }
+            Object answer = property
+                ? DefaultExchangeHolder.getValidExchangePropertyValue(name, value, allowSerializedHeaders)
+                : DefaultExchangeHolder.getValidHeaderValue(name, value, allowSerializedHeaders);
+            if (answer == null) {
+                LOG.debug("Exchange {} containing key: {} with object of type: {} is not valid, it will be excluded.", type, name, value.getClass().getCanonicalName());
+            } else if (!isSupported(answer) && !(answer instanceof Serializable)) {
+                answer = exchange.getContext().getTypeConverter().convertTo(Serializable.class, exchange, answer);
+                if (answer == null) {
+                    LOG.debug("Exchange {} containing key: {} with object of type: {} cannot be serialized, it will be excluded.", type, name, value.getClass().getCanonicalName());
+                }
+            }
+            return answer;
+        }
+
+        private static boolean isSupported(Object value) {
+            if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Boolean
+                    || value instanceof Double || value instanceof Float || value instanceof Short || value instanceof Byte
+                    || value instanceof Character || value instanceof byte[] || value instanceof BigDecimal || value instanceof BigInteger) {
+                return true;
+            } else if (value.getClass() == Date.class) {
+                return true;
+            } else if (value.getClass() == ArrayList.class) {
+                for (Object element : (List<?>) value) {
+                    if (element != null && !isSupported(element)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.write(NULL);
+            } else if (value instanceof String) {
+                out.write(STRING);
+                writeString((String) value);
+            } else if (value instanceof Integer) {
+                out.write(INTEGER);
+                writeVarLong(zigZag((Integer) value));
+            } else if (value instanceof Long) {
+                out.write(LONG);
+                writeVarLong(zigZag((Long) value));
+            } else if (value instanceof Boolean) {
+                out.write(BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Double) {
+                out.write(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.write(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Short) {
+                out.write(SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Byte) {
+                out.write(BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Character) {
+                out.write(CHARACTER);
+                out.writeChar((Character) value);
+            } else if (value instanceof byte[]) {
+                out.write(BYTES);
+                writeBytes((byte[]) value);
+            } else if (value.getClass() == Date.class) {
+                out.write(DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof BigDecimal) {
+                out.write(BIG_DECIMAL);
+                writeString(value.toString());
+            } else if (value instanceof BigInteger) {
+                out.write(BIG_INTEGER);
+                writeBytes(((BigInteger) value).toByteArray());
+            } else if (isSupported(value)) {
+                List<?> list = (List<?>) value;
+                out.write(LIST);
+                writeVarInt(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else {
+                out.write(SERIALIZED);
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                    objectOut.writeObject(value);
+                }
+                writeBytes(bytes.toByteArray());
+            }
+        }
+
+        /**
+         * Writes the key the first time it is used, and otherwise a reference to it
+         */
+        private void writeKey(String key) throws IOException {
+            Integer index = keys.get(key);
+            if (index != null) {
+                writeVarInt(index << 1 | 1);
+            } else {
+                keys.put(key, keys.size());
+                byte[] data = key.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(data.length << 1);
+                out.write(data);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+            } else {
+                byte[] data = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(data.length + 1);
+                out.write(data);
+            }
+        }
+
+        private void writeBytes(byte[] data) throws IOException {
+            writeVarInt(data.length);
+            out.write(data);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private final class Decoder {
+        private final CamelContext camelContext;
+        private final DataInputStream in;
+        private final List<String> keys = new ArrayList<>();
+
+        private Decoder(CamelContext camelContext, DataInputStream in) {
+            this.camelContext = camelContext;
+            this.in = in;
+        }
+
+        private void readMessage(Message message) throws IOException, ClassNotFoundException {
+            message.setBody(readValue());
+            int headers = readVarInt();
+            for (int i = 0; i < headers; i++) {
+                message.setHeader(readKey(), readValue());
+            }
+            message.setFault(in.readBoolean());
+        }
+
+        private Object readValue() throws IOException, ClassNotFoundException {
+            int type = in.read();
+            switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString();
+            case INTEGER:
+                return (int) unZigZag(readVarLong());
+            case LONG:
+                return unZigZag(readVarLong());
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHARACTER:
+                return in.readChar();
+            case BYTES:
+                return readBytes();
+            case DATE:
+                return new Date(in.readLong());
+            case BIG_DECIMAL:
+                return new BigDecimal(readString());
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case LIST:
+                int size = readVarInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                return list;
+            case SERIALIZED:
+                ObjectInputStream objectIn = createObjectInputStream(camelContext, new ByteArrayInputStream(readBytes()));
+                try {
+                    return objectIn.readObject();
+                } finally {
+                    IOHelper.close(objectIn);
+                }
+            default:
+                throw new IOException("Unknown value type " + type + " in marshalled exchange");
+            }
+        }
+
+        private String readKey() throws IOException {
+            int value = readVarInt();
+            if ((value & 1) != 0) {
+                return keys.get(value >>> 1);
+            }
+            byte[] data = new byte[value >>> 1];
+            in.readFully(data);
+            String key = new String(data, StandardCharsets.UTF_8);
+            keys.add(key);
+            return key;
+        }
+
+        private String readString() throws IOException {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            byte[] data = new byte[length - 1];
+            in.readFully(data);
+            return new String(data, StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            byte[] data = new byte[readVarInt()];
+            in.readFully(data);
+            return data;
+        }
+
+        private int readVarInt() throws IOException {
+            return (int) readVarLong();
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in marshalled exchange");
+        }
+
+        private long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+
+/**
+ * Marshals an {@link Exchange} to and from bytes, such as for storing the exchanges of a persistent
+ * {@link org.apache.camel.spi.AggregationRepository}.
+ * <p/>
+ * The exchange id, the bodies and headers of the messages, the fault flags and the caught exception are marshalled,
+ * together with the exchange properties used by the aggregator and the endpoint the exchange was created from.
+ * As with {@link DefaultExchangeHolder} only headers and properties of primitive, String and Date types are
+ * marshalled, unless serialized headers are allowed.
+ *
+ * @see BinaryExchangeCodec
+ * @see SerializationExchangeCodec
+ */
+public interface ExchangeCodec {
+
+    /**
+     * Marshals the exchange.
+     *
+     * @param camelContext           the camel context
+     * @param exchange               the exchange
+     * @param includeProperties      whether to include all the exchange properties, or only the properties used by the aggregator
+     * @param allowSerializedHeaders whether to include headers and properties of any serializable type
+     * @return the marshalled exchange
+     * @throws IOException is thrown if the exchange could not be marshalled
+     */
+    byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean includeProperties, boolean allowSerializedHeaders) throws IOException;
+
+    /**
+     * Unmarshals an exchange which has been marshalled by this codec.
+     *
+     * @param camelContext the camel context
+     * @param buffer       the marshalled exchange
+     * @return the exchange
+     * @throws IOException            is thrown if the exchange could not be unmarshalled
+     * @throws ClassNotFoundException is thrown if a class of a serialized value could not be loaded
+     */
+    Exchange unmarshallExchange(CamelContext camelContext, byte[] buffer) throws IOException, ClassNotFoundException;
+
+}
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link ExchangeCodec} which marshals the exchange as a {@link DefaultExchangeHolder} using Java serialization.
+ * <p/>
+ * This is the format the persistent aggregation repositories has always used to store the exchanges.
+ */
+public class SerializationExchangeCodec implements ExchangeCodec {
+
+    static final String FROM_ENDPOINT = "CamelAggregatedFromEndpoint";
+
+    @Override
+    public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean includeProperties, boolean allowSerializedHeaders) throws IOException {
+        // use DefaultExchangeHolder to marshal to a serialized object
+        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, includeProperties, allowSerializedHeaders);
+        // add the aggregated size and timeout property as the only properties we want to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE, exchange.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT, exchange.getProperty(Exchange.AGGREGATED_TIMEOUT, Long.class));
+        // add the aggregated completed by property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY, exchange.getProperty(Exchange.AGGREGATED_COMPLETED_BY, String.class));
+        // add the aggregated correlation key property to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY, exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class));
+        // and a guard property if using the flexible toolbox aggregator
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD, exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        // persist the from endpoint as well
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(pe, FROM_ENDPOINT, exchange.getFromEndpoint().getEndpointUri());
+        }
+
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut);
+        objectOut.writeObject(pe);
+        objectOut.close();
+        return bytesOut.toByteArray();
+    }
+
+    @Override
+    public Exchange unmarshallExchange(CamelContext camelContext, byte[] buffer) throws IOException, ClassNotFoundException {
+        return unmarshallExchange(camelContext, new ByteArrayInputStream(buffer));
+    }
+
+    /**
+     * Unmarshals an exchange which has been marshalled by this codec.
+     *
+     * @param camelContext the camel context
+     * @param in           the stream to read the marshalled exchange from
+     * @return the exchange
+     */
+    public Exchange unmarshallExchange(CamelContext camelContext, InputStream in) throws IOException, ClassNotFoundException {
+        DefaultExchangeHolder pe;
+        ObjectInputStream objectIn = null;
+        try {
+            objectIn = createObjectInputStream(camelContext, in);
+            pe = (DefaultExchangeHolder) objectIn.readObject();
+        } finally {
+            IOHelper.close(objectIn);
+        }
+
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, pe);
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty(FROM_ENDPOINT);
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Creates the stream to read the serialized objects with, which by default loads the classes using the
+     * application context class loader of the camel context, if any.
+     */
+    protected ObjectInputStream createObjectInputStream(CamelContext camelContext, InputStream in) throws IOException {
+        return new ObjectInputStream(in) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                ClassLoader classLoader = camelContext.getApplicationContextClassLoader();
+                if (classLoader != null) {
+                    try {
+                        return Class.forName(desc.getName(), false, classLoader);
+                    } catch (ClassNotFoundException e) {
+                        // fallback to the default class loading
+                    }
+                }
+                return super.resolveClass(desc);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,263 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which keeps
+ * an in-memory index of all the keys.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository} the file store is never scanned when checking for a key,
+ * as all the keys are loaded into the index when the repository is started. The file store is an append only
+ * journal where each added or removed key is appended as a single line, which means adding and removing
+ * keys does not rewrite the file. The journal is compacted by rewriting the current keys when the number of
+ * obsolete lines exceeds the {@link #getCompactionThreshold()} and the number of current keys.
+ * <p/>
+ * Checking for a key does not lock the repository, so concurrent consumers are not serialized on lookups.
+ * <p/>
+ * <b>Important:</b> all the keys are kept on the heap, which takes roughly 100 to 200 bytes per key depending on
+ * the length of the key, and the whole file store is read when the repository is started. This repository
+ * should therefore only be used when the number of keys is bounded to what fits in the heap (such as up to
+ * a few million keys), otherwise use a database based repository.
+ */
+@ManagedResource(description = "Indexed file based idempotent repository")
+public class IndexedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final char ADDED = '+';
+    private static final char REMOVED = '-';
+
+    private final Set<String> index = ConcurrentHashMap.newKeySet();
+    private File fileStore;
+    private Writer journal;
+    private long obsoleteEntries;
+    private long compactionThreshold = 1000;
+
+    public IndexedFileIdempotentRepository() {
+    }
+
+    public IndexedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new indexed file based repository.
+     *
+     * @param fileStore  the file store
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File fileStore) {
+        return new IndexedFileIdempotentRepository(fileStore);
+    }
+
+    @ManagedOperation(description = "Adds the key to the store")
+    public synchronized boolean add(String key) {
+        if (!index.add(key)) {
+            return false;
+        }
+        appendToStore(ADDED, key);
+        return true;
+    }
+
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        return index.contains(key);
+    }
+
+    @ManagedOperation(description = "Remove the key from the store")
+    public synchronized boolean remove(String key) {
+        if (!index.remove(key)) {
+            return false;
+        }
+        appendToStore(REMOVED, key);
+        // both the added and the removed line are now obsolete
+        obsoleteEntries += 2;
+        if (obsoleteEntries >= compactionThreshold && obsoleteEntries >= index.size()) {
+            compact();
+        }
+        return true;
+    }
+
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public synchronized void clear() {
+        index.clear();
+        compact();
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public int getSize() {
+        return index.size();
+    }
+
+    @ManagedAttribute(description = "The number of obsolete lines in the file store")
+    public synchronized long getObsoleteEntries() {
+        return obsoleteEntries;
+    }
+
+    @ManagedAttribute(description = "Minimum number of obsolete lines before the file store is compacted")
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the minimum number of obsolete lines (from removed keys) before the file store is compacted.
+     * The file store is compacted when the number of obsolete lines is both higher than this threshold and
+     * higher than the number of keys in the store.
+     * <p/>
+     * The default is 1000.
+     */
+    @ManagedAttribute(description = "Minimum number of obsolete lines before the file store is compacted")
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Compacts the file store by rewriting it with the current keys only.
+     */
+    @ManagedOperation(description = "Compacts the file store")
+    public synchronized void compact() {
+        log.debug("Compacting idempotent filestore: {} with {} keys and {} obsolete entries", fileStore, index.size(), obsoleteEntries);
+        File tmp = new File(fileStore.getPath() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+                for (String key : index) {
+                    writer.write(ADDED);
+                    writer.write(key);
+                    writer.write('\n');
+                }
+            }
+            // replace the journal with the compacted file
+            IOHelper.close(journal, "Closing indexed file idempotent repository", log);
+            journal = null;
+            Files.move(tmp.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            obsoleteEntries = 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            if (journal == null) {
+                try {
+                    journal = openJournal();
+                } catch (IOException e) {
+                    log.warn("Cannot open idempotent filestore: {} due {}", fileStore, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the given key to the file store
+     */
+    protected void appendToStore(char operation, String key) {
+        log.trace("Appending: {}{} to idempotent filestore: {}", operation, key, fileStore);
+        try {
+            journal.write(operation);
+            journal.write(key);
+            journal.write('\n');
+            journal.flush();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Loads the keys from the file store into the index
+     */
+    protected void loadStore() throws IOException {
+        index.clear();
+        obsoleteEntries = 0;
+        if (!fileStore.exists()) {
+            return;
+        }
+
+        log.trace("Loading index from idempotent filestore: {}", fileStore);
+        try (BufferedReader reader = Files.newBufferedReader(fileStore.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String key = line.substring(1);
+                if (line.charAt(0) == REMOVED) {
+                    index.remove(key);
+                    obsoleteEntries += 2;
+                } else if (!index.add(key)) {
+                    obsoleteEntries++;
+                }
+            }
+        }
+        log.debug("Loaded {} keys from idempotent filestore: {}", index.size(), fileStore);
+    }
+
+    private Writer openJournal() throws IOException {
+        File parent = fileStore.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            log.warn("Parent directory of filestore: {} cannot be created.", fileStore);
+        }
+        return Files.newBufferedWriter(fileStore.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    protected synchronized void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        loadStore();
+        journal = openJournal();
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        IOHelper.close(journal, "Closing indexed file idempotent repository", log);
+        journal = null;
+        index.clear();
+    }
+
+}
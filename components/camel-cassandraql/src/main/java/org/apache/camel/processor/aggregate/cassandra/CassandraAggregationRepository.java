@@ -35,6 +35,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.AggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.utils.cassandra.CassandraSessionHolder;
 import org.slf4j.Logger;
@@ -88,7 +89,7 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
     /**
      * Exchange marshaller/unmarshaller
      */
-    private final CassandraCamelCodec exchangeCodec = new CassandraCamelCodec();
+    private ExchangeCodec exchangeCodec = new CassandraCamelCodec();
     /**
      * Time to live in seconds used for inserts
      */
@@ -190,7 +191,7 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
         final Object[] idValues = getPKValues(key);
         LOGGER.debug("Inserting key {} exchange {}", idValues, exchange);
         try {
-            ByteBuffer marshalledExchange = exchangeCodec.marshallExchange(camelContext, exchange, allowSerializedHeaders);
+            ByteBuffer marshalledExchange = ByteBuffer.wrap(exchangeCodec.marshallExchange(camelContext, exchange, false, allowSerializedHeaders));
             Object[] cqlParams = concat(idValues, new Object[]{exchange.getExchangeId(), marshalledExchange});
             getSession().execute(insertStatement.bind(cqlParams));
             return exchange;
@@ -222,7 +223,7 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
         Exchange exchange = null;
         if (row != null) {
             try {
-                exchange = exchangeCodec.unmarshallExchange(camelContext, row.getBytes(exchangeColumn));
+                exchange = exchangeCodec.unmarshallExchange(camelContext, toByteArray(row.getBytes(exchangeColumn)));
             } catch (IOException iOException) {
                 throw new CassandraAggregationException("Failed to read exchange", exchange, iOException);
             } catch (ClassNotFoundException classNotFoundException) {
@@ -232,6 +233,16 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
         return exchange;
     }
 
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            // use the array of the buffer as is
+            return buffer.array();
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.duplicate().get(data);
+        return data;
+    }
+
     // -------------------------------------------------------------------------
     // Confirm exchange in repository
     private void initDeleteIfIdStatement() {
@@ -476,4 +487,16 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
     public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * Sets the codec used to store the exchanges, such as {@link org.apache.camel.support.BinaryExchangeCodec}.
+     * By default the exchanges are stored using Java serialization.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
 }
@@ -18,20 +18,33 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -41,6 +54,11 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private WatchService watchService;
+    private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+    private volatile long lastFullScan;
+    private volatile boolean filesFound;
+    private ExecutorService processingExecutorService;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations, GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -68,8 +86,29 @@ public class FileConsumer extends GenericFileConsumer<File> {
         }
 
         log.trace("Polling directory: {}", directory.getPath());
-        File[] dirFiles = directory.listFiles();
-        if (dirFiles == null || dirFiles.length == 0) {
+        if (watchService != null) {
+            registerDirectory(directory);
+        }
+
+        // use a directory stream and read the basic attributes once per entry, instead of File.listFiles
+        // followed by separate stat calls for the length, last modified and directory checks
+        List<File> files = new ArrayList<>();
+        Map<File, BasicFileAttributes> fileAttributes = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                File file = path.toFile();
+                files.add(file);
+                try {
+                    fileAttributes.put(file, Files.readAttributes(path, BasicFileAttributes.class));
+                } catch (IOException e) {
+                    // the file may have been removed in the meantime, so fallback to the file api
+                    log.trace("Cannot read attributes of file: {} due {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Cannot list files in directory: {} due {}", directory, e.getMessage());
+        }
+        if (files.isEmpty()) {
             // no files in this directory to poll
             if (log.isTraceEnabled()) {
                 log.trace("No files found in directory: {}", directory.getPath());
@@ -78,15 +117,14 @@ public class FileConsumer extends GenericFileConsumer<File> {
         } else {
             // we found some files
             if (log.isTraceEnabled()) {
-                log.trace("Found {} in directory: {}", dirFiles.length, directory.getPath());
+                log.trace("Found {} in directory: {}", files.size(), directory.getPath());
             }
         }
-        List<File> files = Arrays.asList(dirFiles);
         if (getEndpoint().isPreSort()) {
             files.sort(Comparator.comparing(File::getAbsoluteFile));
         }
 
-        for (File file : dirFiles) {
+        for (File file : files) {
             // check if we can continue polling in files
             if (!canPollMoreFiles(fileList)) {
                 return false;
@@ -99,9 +137,15 @@ public class FileConsumer extends GenericFileConsumer<File> {
             }
 
             // creates a generic file
-            GenericFile<File> gf = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            BasicFileAttributes attrs = fileAttributes.get(file);
+            GenericFile<File> gf;
+            if (attrs != null) {
+                gf = asGenericFile(endpointPath, file, attrs, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            } else {
+                gf = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            }
 
-            if (file.isDirectory()) {
+            if (gf.isDirectory()) {
                 if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
                     // recursive scan and add the sub files and folders
                     String subDirectory = fileName + File.separator + file.getName();
@@ -150,6 +194,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
                     }
 
                     fileList.add(gf);
+                    filesFound = true;
                 }
 
             }
@@ -158,6 +203,91 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return true;
     }
 
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        if (processingExecutorService == null || customProcessor != null) {
+            return super.processBatch(exchanges);
+        }
+
+        return processBatchConcurrently(exchanges, processingExecutorService);
+    }
+
+    @Override
+    protected boolean prePollCheck() throws Exception {
+        if (watchService == null) {
+            return true;
+        }
+
+        // drain the pending events from the directories we watch
+        boolean changed = false;
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            for (WatchEvent<?> event : key.pollEvents()) {
+                log.trace("Directory watch event: {} on {}", event.kind(), key.watchable());
+                changed = true;
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible so it must be registered again on the next scan
+                watchKeys.values().remove(key);
+                changed = true;
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        long interval = getEndpoint().getDirectoryWatchReconcileInterval();
+        boolean reconcile = watchKeys.isEmpty() || (interval > 0 && now - lastFullScan >= interval);
+        // files which were found but not processed (such as failing to acquire read lock, or the max messages per poll limit was hit)
+        // will not trigger any new events, so we must list the directory again in that situation
+        if (!changed && !filesFound && !reconcile) {
+            log.trace("Skipping poll as there are no changes in the watched directories");
+            return false;
+        }
+
+        lastFullScan = now;
+        filesFound = false;
+        return true;
+    }
+
+    private void registerDirectory(File directory) {
+        Path path = directory.toPath().toAbsolutePath();
+        if (!watchKeys.containsKey(path)) {
+            try {
+                WatchKey key = path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                watchKeys.put(path, key);
+                log.debug("Watching directory: {} for changes", path);
+            } catch (IOException | ClosedWatchServiceException e) {
+                log.debug("Cannot watch directory: {} due {}. Will list the directory on every poll.", path, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().getParallelProcessingPoolSize() > 0) {
+            processingExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "FileConsumerProcessing", getEndpoint().getParallelProcessingPoolSize());
+        }
+        if (getEndpoint().isDirectoryWatch()) {
+            watchService = FileSystems.getDefault().newWatchService();
+            lastFullScan = 0;
+            filesFound = false;
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        watchKeys.clear();
+        IOHelper.close(watchService);
+        watchService = null;
+        if (processingExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(processingExecutorService);
+            processingExecutorService = null;
+        }
+    }
+
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
         String onlyName = FileUtil.stripPath(doneFileName);
@@ -180,6 +310,24 @@ public class FileConsumer extends GenericFileConsumer<File> {
      * @return wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, charset, probeContentType, file.length(), file.isDirectory(), file.lastModified());
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file and its already read attributes.
+     *
+     * @param endpointPath the starting directory the endpoint was configured with
+     * @param file the source file
+     * @param attributes the basic attributes of the file
+     * @param probeContentType whether to probe the content type of the file or not
+     * @return wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, charset, probeContentType, attributes.size(), attributes.isDirectory(), attributes.lastModifiedTime().toMillis());
+    }
+
+    private static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType,
+                                                   long length, boolean directory, long lastModified) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -188,8 +336,8 @@ public class FileConsumer extends GenericFileConsumer<File> {
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
+        answer.setFileLength(length);
+        answer.setDirectory(directory);
         // must use FileUtil.isAbsolute to have consistent check for whether the file is
         // absolute or not. As windows do not consider \ paths as absolute where as all
         // other OS platforms will consider \ as absolute. The logic in Camel mandates
@@ -197,7 +345,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
+        answer.setLastModified(lastModified);
 
         // compute the file path as relative to the starting directory
         File path;
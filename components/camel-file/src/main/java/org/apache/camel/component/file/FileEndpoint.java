@@ -62,6 +62,12 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean directoryWatch;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long directoryWatchReconcileInterval = 60000;
+    @UriParam(label = "consumer,advanced")
+    private int parallelProcessingPoolSize;
     @UriParam(label = "producer,advanced")
     private String chmod;
     @UriParam(label = "producer,advanced")
@@ -287,6 +293,47 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isDirectoryWatch() {
+        return directoryWatch;
+    }
+
+    /**
+     * Whether the consumer should use a {@link java.nio.file.WatchService} to detect changes in the polled directories.
+     * When enabled the consumer only lists the directories when the file system reported a change since the last poll,
+     * or if the previous poll found files which was not consumed, instead of listing the directories on every poll.
+     * This can greatly reduce the overhead of polling directories with many files.
+     * Notice that not all file systems support reporting changes, such as network shares.
+     */
+    public void setDirectoryWatch(boolean directoryWatch) {
+        this.directoryWatch = directoryWatch;
+    }
+
+    public long getDirectoryWatchReconcileInterval() {
+        return directoryWatchReconcileInterval;
+    }
+
+    /**
+     * When using directoryWatch then the consumer lists the directories at this interval (millis) regardless of changes
+     * having been reported, to reconcile any missed changes. Use 0 or a negative value to disable.
+     */
+    public void setDirectoryWatchReconcileInterval(long directoryWatchReconcileInterval) {
+        this.directoryWatchReconcileInterval = directoryWatchReconcileInterval;
+    }
+
+    public int getParallelProcessingPoolSize() {
+        return parallelProcessingPoolSize;
+    }
+
+    /**
+     * When set to a positive value, the consumer processes the files of each poll concurrently using a thread pool of this size,
+     * instead of one by one. This allows to acquire the read locks of multiple files at the same time, so a file that is slow
+     * to acquire its read lock (such as with readLock=changed) does not delay the other files. Notice that the files are then
+     * not processed in the sorted order. The poll waits for all the files to be processed before the next poll.
+     */
+    public void setParallelProcessingPoolSize(int parallelProcessingPoolSize) {
+        this.parallelProcessingPoolSize = parallelProcessingPoolSize;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
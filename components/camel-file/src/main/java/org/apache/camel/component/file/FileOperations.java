@@ -17,15 +17,19 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
@@ -267,6 +271,9 @@ public class FileOperations implements GenericFileOperations<File> {
                 if (body instanceof File) {
                     source = (File) body;
                     fileBased = true;
+                } else if (body instanceof Path && ((Path) body).getFileSystem() == FileSystems.getDefault()) {
+                    source = ((Path) body).toFile();
+                    fileBased = true;
                 }
             }
 
@@ -385,7 +392,24 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
-            
+            if (in instanceof FileInputStream && out instanceof FileChannel) {
+                // let the operating system transfer the data directly between the files
+                LOG.debug("Using FileChannel to write file: {}", target);
+                FileChannel source = ((FileInputStream) in).getChannel();
+                FileChannel channel = (FileChannel) out;
+                long position = source.position();
+                long size = source.size();
+                while (position < size) {
+                    long transferred = source.transferTo(position, size - position, channel);
+                    if (transferred <= 0) {
+                        // the source file was truncated in the meantime
+                        break;
+                    }
+                    position += transferred;
+                }
+                return;
+            }
+
             LOG.debug("Using InputStream to write file: {}", target);
             int size = endpoint.getBufferSize();
             byte[] buffer = new byte[size];
@@ -22,6 +22,11 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -52,6 +57,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected Processor customProcessor;
     protected boolean eagerLimitMaxMessagesPerPoll = true;
     protected volatile boolean prepareOnStartup;
+    protected final AtomicInteger readLocksAcquired = new AtomicInteger();
+    protected final AtomicLong readLockWaitTime = new AtomicLong();
     private final Pattern includePattern;
     private final Pattern excludePattern;
 
@@ -182,8 +189,16 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             log.debug("Total {} files to consume", total);
         }
 
+        readLocksAcquired.set(0);
+        readLockWaitTime.set(0);
+
         int polledMessages = processBatch(CastUtils.cast(q));
 
+        if (total > 0 && log.isDebugEnabled()) {
+            log.debug("Poll of {} listed {} files, acquired {} read locks taking {}, and dispatched {} files",
+                    name, total, readLocksAcquired.get(), TimeUtils.printDuration(readLockWaitTime.get()), polledMessages);
+        }
+
         postPollCheck(polledMessages);
 
         return polledMessages;
@@ -233,6 +248,80 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return answer;
     }
 
+    /**
+     * Processes the batch concurrently using the given thread pool. The files are not processed in the order of the batch,
+     * but this method waits for all the files to be processed before returning.
+     *
+     * @param exchanges  the exchanges
+     * @param executorService the thread pool to use for processing the files
+     * @return number of exchanges which was started to be processed
+     */
+    protected int processBatchConcurrently(Queue<Object> exchanges, ExecutorService executorService) {
+        int total = exchanges.size();
+        int answer = total;
+
+        // limit if needed
+        if (maxMessagesPerPoll > 0 && total > maxMessagesPerPoll) {
+            log.debug("Limiting to maximum messages to poll {} as there were {} messages in this poll.", maxMessagesPerPoll, total);
+            total = maxMessagesPerPoll;
+        }
+
+        // begin processing the files concurrently so a slow read lock on a single file does not delay the other files
+        final AtomicInteger remaining = new AtomicInteger(total);
+        pendingExchanges = total;
+        List<Future<Boolean>> futures = new ArrayList<>(total);
+        for (int index = 0; index < total && isBatchAllowed(); index++) {
+            final Exchange exchange = (Exchange) exchanges.poll();
+            // add current index and total as properties
+            exchange.setProperty(Exchange.BATCH_INDEX, index);
+            exchange.setProperty(Exchange.BATCH_SIZE, total);
+            exchange.setProperty(Exchange.BATCH_COMPLETE, index == total - 1);
+
+            futures.add(executorService.submit(() -> {
+                pendingExchanges = remaining.decrementAndGet();
+                if (!isBatchAllowed()) {
+                    // we are shutting down so the file should not be processed
+                    GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+                    endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+                    return false;
+                }
+                return processConcurrentExchange(exchange);
+            }));
+        }
+        answer -= total - futures.size();
+
+        // wait for the files to be processed so the batch is complete before the next poll
+        for (Future<Boolean> future : futures) {
+            try {
+                if (!future.get()) {
+                    answer--;
+                }
+            } catch (InterruptedException e) {
+                log.debug("Interrupted while waiting for files to be processed");
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                answer--;
+                handleException("Error processing file due to " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        // drain any in progress files as we are done with this batch
+        removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
+
+        return answer;
+    }
+
+    /**
+     * Processes the exchange from a thread of the pool used by {@link #processBatchConcurrently(Queue, ExecutorService)}.
+     *
+     * @param exchange the exchange
+     * @return <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not started
+     */
+    protected boolean processConcurrentExchange(Exchange exchange) {
+        return processExchange(exchange);
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -346,6 +435,17 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      * to be processed, for some reason (not found, or aborted etc)
      */
     protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, operations);
+    }
+
+    /**
+     * Processes the exchange using the given operations
+     *
+     * @param exchange  the exchange
+     * @param fileOperations the operations to use for retrieving and committing the file
+     * @return <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not started
+     */
+    protected boolean processExchange(final Exchange exchange, final GenericFileOperations<T> fileOperations) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         log.trace("Processing file: {}", file);
 
@@ -356,10 +456,16 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         // check if we can begin processing the file
         Exception beginCause = null;
         boolean begin = false;
+        StopWatch watch = new StopWatch();
         try {
-            begin = processStrategy.begin(operations, endpoint, exchange, file);
+            begin = processStrategy.begin(fileOperations, endpoint, exchange, file);
         } catch (Exception e) {
             beginCause = e;
+        } finally {
+            readLockWaitTime.addAndGet(watch.taken());
+        }
+        if (begin) {
+            readLocksAcquired.incrementAndGet();
         }
 
         if (!begin) {
@@ -368,7 +474,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             log.debug("{} cannot begin processing file: {}", endpoint, file);
             try {
                 // abort
-                processStrategy.abort(operations, endpoint, exchange, file);
+                processStrategy.abort(fileOperations, endpoint, exchange, file);
             } catch (Exception e) {
                 abortCause = e;
             } finally {
@@ -406,7 +512,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 boolean retrieved;
                 Exception cause = null;
                 try {
-                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                    retrieved = fileOperations.retrieveFile(name, exchange, target.getFileLength());
                 } catch (Exception e) {
                     retrieved = false;
                     cause = e;
@@ -438,7 +544,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             // register on completion callback that does the completion strategies
             // (for instance to move the file after we have processed it)
-            exchange.addOnCompletion(new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+            exchange.addOnCompletion(new GenericFileOnCompletion<>(endpoint, fileOperations, processStrategy, target, absoluteFileName));
 
             log.debug("About to process file: {} using exchange: {}", target, exchange);
 
@@ -121,6 +121,12 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         return new FtpDefaultMoveExistingFileStrategy();
     }
 
+    @Override
+    protected boolean isSessionPoolSupported() {
+        // a custom client cannot be shared by multiple operations
+        return ftpClient == null;
+    }
+
     public RemoteFileOperations<FTPFile> createRemoteFileOperations() throws Exception {
         // configure ftp client
         FTPClient client = ftpClient;
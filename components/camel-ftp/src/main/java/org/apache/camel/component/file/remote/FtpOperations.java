@@ -347,6 +347,10 @@ public class FtpOperations implements RemoteFileOperations<FTPFile> {
                         // we are here if the server side doesn't create intermediate folders so create the folder one by one
                         success = buildDirectoryChunks(directory);
                     }
+                    if (!success) {
+                        // the directory may have been created by another connection in the meantime
+                        success = client.changeWorkingDirectory(directory);
+                    }
                 }
 
                 return success;
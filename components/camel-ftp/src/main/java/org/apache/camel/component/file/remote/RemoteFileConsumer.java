@@ -18,10 +18,15 @@ package org.apache.camel.component.file.remote;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Ordered;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.FileComponent;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
@@ -34,6 +39,8 @@ import org.apache.camel.support.SynchronizationAdapter;
 public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
+    private ExecutorService processingExecutorService;
+    private BlockingQueue<RemoteFileOperations<T>> sessions;
 
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations, GenericFileProcessStrategy processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -133,15 +140,114 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return super.processExchange(exchange);
     }
 
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        if (processingExecutorService == null || customProcessor != null) {
+            return super.processBatch(exchanges);
+        }
+
+        int answer = processBatchConcurrently(exchanges, processingExecutorService);
+        if (getEndpoint().isDisconnect()) {
+            // the batch is complete so disconnect the sessions used for processing and the session used for polling
+            log.trace("processBatch disconnect from: {}", getEndpoint());
+            sessions.forEach(this::disconnectSession);
+            disconnect();
+        }
+        return answer;
+    }
+
+    @Override
+    protected boolean processConcurrentExchange(Exchange exchange) {
+        // mark the exchange to be processed synchronously as the ftp client is not thread safe
+        // and we must execute the callbacks in the same thread which uses the session
+        exchange.setProperty(Exchange.UNIT_OF_WORK_PROCESS_SYNC, Boolean.TRUE);
+
+        RemoteFileOperations<T> session;
+        try {
+            session = sessions.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+            endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+            return false;
+        }
+
+        try {
+            try {
+                connectSessionIfNecessary(session);
+            } catch (Exception e) {
+                GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+                endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+                handleException("Cannot connect/login to: " + remoteServer() + " to process file: " + file, e);
+                return false;
+            }
+            return processExchange(exchange, session);
+        } finally {
+            // keep the session connected for the other files in the batch
+            sessions.add(session);
+        }
+    }
+
     @Override
     protected boolean isRetrieveFile() {
         return getEndpoint().isDownload();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        int poolSize = getEndpoint().getParallelProcessingPoolSize();
+        if (poolSize > 0 && getEndpoint().isSessionPoolSupported()) {
+            // each thread uses its own session as the operations are not thread safe
+            sessions = new LinkedBlockingQueue<>();
+            for (int i = 0; i < poolSize; i++) {
+                sessions.add(getEndpoint().createRemoteFileOperations());
+            }
+            processingExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "RemoteFileConsumerProcessing", poolSize);
+        } else if (poolSize > 0) {
+            log.warn("Cannot use parallelProcessingPoolSize with a custom client on: {}. The files are processed one by one.", getEndpoint());
+        }
+        super.doStart();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
         disconnect();
+        if (processingExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(processingExecutorService);
+            processingExecutorService = null;
+        }
+        if (sessions != null) {
+            sessions.forEach(this::disconnectSession);
+            sessions = null;
+        }
+    }
+
+    private void connectSessionIfNecessary(RemoteFileOperations<T> session) {
+        boolean isConnected = false;
+        try {
+            isConnected = session.isConnected() && session.sendNoop();
+        } catch (Exception ex) {
+            // here we just ignore the exception and try to reconnect
+            log.debug("Exception checking connection status: {}", ex.getMessage());
+        }
+        if (!isConnected) {
+            log.debug("Not connected/logged in, connecting session to: {}", remoteServer());
+            if (!session.connect((RemoteFileConfiguration) endpoint.getConfiguration())) {
+                throw new GenericFileOperationFailedException("Cannot connect/login to: " + remoteServer());
+            }
+        }
+    }
+
+    private void disconnectSession(RemoteFileOperations<T> session) {
+        try {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        } catch (GenericFileOperationFailedException e) {
+            log.warn("Error occurred while disconnecting from " + remoteServer() + " due: " + e.getMessage() + ". This exception will be ignored.");
+        }
     }
 
     protected void disconnect() {
@@ -47,6 +47,8 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
     private boolean fastExistsCheck;
     @UriParam(label = "consumer,advanced")
     private boolean download = true;
+    @UriParam(label = "consumer,advanced")
+    private int parallelProcessingPoolSize;
 
     public RemoteFileEndpoint() {
         // no args constructor for spring bean endpoint configuration
@@ -276,4 +278,25 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
     public void setDownload(boolean download) {
         this.download = download;
     }
+
+    public int getParallelProcessingPoolSize() {
+        return parallelProcessingPoolSize;
+    }
+
+    /**
+     * When set to a positive value, the consumer downloads and processes the files of each poll concurrently using a thread pool
+     * of this size, where each thread uses its own connection to the remote server. This allows to download many small files faster,
+     * as the time is often spent waiting for the remote server. Notice that the files are then not processed in the sorted order.
+     * The poll waits for all the files to be processed before the next poll. This option is not in use when a custom ftpClient is configured.
+     */
+    public void setParallelProcessingPoolSize(int parallelProcessingPoolSize) {
+        this.parallelProcessingPoolSize = parallelProcessingPoolSize;
+    }
+
+    /**
+     * Whether the consumer can create additional operations, each with their own connection, to process files concurrently.
+     */
+    protected boolean isSessionPoolSupported() {
+        return true;
+    }
 }
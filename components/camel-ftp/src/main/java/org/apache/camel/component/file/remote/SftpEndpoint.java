@@ -23,6 +23,7 @@ import org.apache.camel.component.file.GenericFileProducer;
 import org.apache.camel.component.file.strategy.FileMoveExistingStrategy;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  *  The sftp (FTP over SSH) component is used for uploading or downloading files from SFTP servers.
@@ -36,7 +37,9 @@ public class SftpEndpoint extends RemoteFileEndpoint<SftpRemoteFile> {
     protected SftpConfiguration configuration;
     @UriParam(label = "advanced")
     protected Proxy proxy;
-    
+    @UriParam(label = "consumer")
+    protected boolean resumeDownload;
+
     public SftpEndpoint() {
     }
 
@@ -60,6 +63,14 @@ public class SftpEndpoint extends RemoteFileEndpoint<SftpRemoteFile> {
         super.setConfiguration(configuration);
     }
 
+    @Override
+    public RemoteFileConsumer<SftpRemoteFile> createConsumer(Processor processor) throws Exception {
+        if (isResumeDownload() && ObjectHelper.isEmpty(getLocalWorkDirectory())) {
+            throw new IllegalArgumentException("The option localWorkDirectory must be configured when resumeDownload=true");
+        }
+        return super.createConsumer(processor);
+    }
+
     @Override
     protected RemoteFileConsumer<SftpRemoteFile> buildConsumer(Processor processor) {
         return new SftpConsumer(this, processor, createRemoteFileOperations(), processStrategy != null ? processStrategy : createGenericFileStrategy());
@@ -98,6 +109,19 @@ public class SftpEndpoint extends RemoteFileEndpoint<SftpRemoteFile> {
         this.proxy = proxy;
     }
 
+    public boolean isResumeDownload() {
+        return resumeDownload;
+    }
+
+    /**
+     * Configures whether resume download is enabled. In addition the options <tt>localWorkDirectory</tt> must be configured
+     * so downloaded files are stored in a local directory, and an interrupted download continues from the size of the
+     * partially downloaded local work file, instead of downloading the entire file again.
+     */
+    public void setResumeDownload(boolean resumeDownload) {
+        this.resumeDownload = resumeDownload;
+    }
+
     @Override
     public String getScheme() {
         return "sftp";
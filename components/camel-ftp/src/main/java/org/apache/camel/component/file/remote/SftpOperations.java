@@ -531,6 +531,16 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
                     success = buildDirectoryChunks(directory);
                 }
             }
+
+            if (!success) {
+                // the directory may have been created by another session in the meantime
+                try {
+                    channel.ls(directory);
+                    success = true;
+                } catch (SftpException e) {
+                    // ignore, the directory does not exist
+                }
+            }
         } catch (IOException | SftpException e) {
             throw new GenericFileOperationFailedException("Cannot build directory: " + directory, e);
         }
@@ -780,6 +790,8 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
         File temp;
         File local = new File(endpoint.getLocalWorkDirectory());
         OutputStream os;
+        long existingSize = -1;
+        boolean resumeDownload = endpoint.isResumeDownload();
         GenericFile<ChannelSftp.LsEntry> file = (GenericFile<ChannelSftp.LsEntry>)exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE);
         ObjectHelper.notNull(file, "Exchange should have the " + FileComponent.FILE_EXCHANGE_FILE + " set");
         try {
@@ -792,26 +804,35 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
             // create directory to local work file
             local.mkdirs();
 
-            // delete any existing files
-            if (temp.exists()) {
-                if (!FileUtil.deleteFile(temp)) {
-                    throw new GenericFileOperationFailedException("Cannot delete existing local work file: " + temp);
-                }
-            }
+            // delete any local file (as its the temp file that is in the in-progress download)
             if (local.exists()) {
                 if (!FileUtil.deleteFile(local)) {
                     throw new GenericFileOperationFailedException("Cannot delete existing local work file: " + local);
                 }
             }
 
-            // create new temp local work file
-            if (!temp.createNewFile()) {
-                throw new GenericFileOperationFailedException("Cannot create new local work file: " + temp);
+            // if a previous file exists then store its current size as its a partial download
+            boolean exists = temp.exists();
+            if (exists) {
+                existingSize = temp.length();
+            }
+
+            // if we do not resume download, then delete any existing temp file and create a new to use for in-progress download
+            if (!resumeDownload) {
+                // delete any existing files
+                if (exists && !FileUtil.deleteFile(temp)) {
+                    throw new GenericFileOperationFailedException("Cannot delete existing local work file: " + temp);
+                }
+                // create new temp local work file
+                if (!temp.createNewFile()) {
+                    throw new GenericFileOperationFailedException("Cannot create new local work file: " + temp);
+                }
             }
 
             // store content as a file in the local work directory in the temp
             // handle
-            os = new FileOutputStream(temp);
+            boolean append = resumeDownload && existingSize > 0;
+            os = new FileOutputStream(temp, append);
 
             // set header with the path to the local work file
             exchange.getIn().setHeader(Exchange.FILE_LOCAL_WORK_PATH, local.getPath());
@@ -840,17 +861,27 @@ public class SftpOperations implements RemoteFileOperations<SftpRemoteFile> {
                 remoteName = FileUtil.stripPath(name);
             }
 
-            channel.get(remoteName, os);
+            if (resumeDownload && existingSize > 0) {
+                // the file exists so lets try to resume the download by skipping the bytes we already have
+                LOG.debug("Resuming download of file: {} at position: {}", remoteName, existingSize);
+                channel.get(remoteName, os, null, ChannelSftp.RESUME, existingSize);
+            } else {
+                channel.get(remoteName, os);
+            }
 
         } catch (SftpException e) {
-            LOG.trace("Error occurred during retrieving file: {} to local directory. Deleting local work file: {}", name, temp);
-            // failed to retrieve the file so we need to close streams and
-            // delete in progress file
-            // must close stream before deleting file
-            IOHelper.close(os, "retrieve: " + name, LOG);
-            boolean deleted = FileUtil.deleteFile(temp);
-            if (!deleted) {
-                LOG.warn("Error occurred during retrieving file: " + name + " to local directory. Cannot delete local work file: " + temp);
+            LOG.trace("Error occurred during retrieving file: {} to local directory.", name);
+            // if we do not attempt to resume download, then attempt to delete the temporary file
+            if (!resumeDownload) {
+                LOG.trace("Deleting local work file: {}", temp);
+                // failed to retrieve the file so we need to close streams and
+                // delete in progress file
+                // must close stream before deleting file
+                IOHelper.close(os, "retrieve: " + name, LOG);
+                boolean deleted = FileUtil.deleteFile(temp);
+                if (!deleted) {
+                    LOG.warn("Error occurred during retrieving file: " + name + " to local directory. Cannot delete local work file: " + temp);
+                }
             }
             throw new GenericFileOperationFailedException("Cannot retrieve file: " + name, e);
         } finally {
@@ -0,0 +1,63 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.ftpserver.ftplet.FtpStatistics;
+import org.apache.ftpserver.impl.DefaultFtpServer;
+import org.junit.Test;
+
+public class FromFtpParallelProcessingDisconnectTest extends FtpServerTestSupport {
+
+    protected String getFtpUrl() {
+        return "ftp://admin@localhost:" + getPort() + "/parallel?password=admin&parallelProcessingPoolSize=3&disconnect=true&delete=true&delay=5000";
+    }
+
+    @Test
+    public void testSessionsConnectedForBatch() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("file://" + FTP_ROOT_DIR + "/parallel", "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the sessions are disconnected when the batch is complete
+        FtpStatistics statistics = ((DefaultFtpServer) ftpServer).getServerContext().getFtpStatistics();
+        for (int i = 0; i < 50 && statistics.getCurrentLoginNumber() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, statistics.getCurrentLoginNumber());
+        // one login for polling and at most one for each of the sessions used for processing
+        assertTrue("Should not login for each file: " + statistics.getTotalLoginNumber(), statistics.getTotalLoginNumber() <= 4);
+    }
+
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(getFtpUrl()).routeId("foo").noAutoStartup()
+                    .to("mock:result");
+            }
+        };
+    }
+}
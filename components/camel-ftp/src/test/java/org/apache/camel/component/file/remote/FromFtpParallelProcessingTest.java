@@ -0,0 +1,63 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class FromFtpParallelProcessingTest extends FtpServerTestSupport {
+
+    protected String getFtpUrl() {
+        return "ftp://admin@localhost:" + getPort() + "/parallel?password=admin&parallelProcessingPoolSize=3&move=done&delay=5000";
+    }
+
+    @Test
+    public void testParallelProcessing() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("file://" + FTP_ROOT_DIR + "/parallel", "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectedFileExists(FTP_ROOT_DIR + "/parallel/done/hello0.txt");
+        mock.expectedFileExists(FTP_ROOT_DIR + "/parallel/done/hello9.txt");
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String name = exchange.getIn().getHeader(Exchange.FILE_NAME, String.class);
+            String body = exchange.getIn().getBody(String.class);
+            assertEquals(name.replace("hello", "Hello ").replace(".txt", ""), body);
+            String thread = exchange.getIn().getHeader("thread", String.class);
+            assertTrue("Should be processed by the pool: " + thread, thread.contains("RemoteFileConsumerProcessing"));
+        }
+    }
+
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(getFtpUrl()).routeId("foo").noAutoStartup()
+                    .process(e -> e.getIn().setHeader("thread", Thread.currentThread().getName()))
+                    .to("mock:result");
+            }
+        };
+    }
+}
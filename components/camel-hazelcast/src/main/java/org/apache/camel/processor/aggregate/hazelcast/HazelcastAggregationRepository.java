@@ -16,6 +16,7 @@
  */
 package org.apache.camel.processor.aggregate.hazelcast;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -32,10 +33,13 @@ import com.hazelcast.transaction.TransactionOptions;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
@@ -63,8 +67,8 @@ public class HazelcastAggregationRepository extends ServiceSupport
     private boolean optimistic;
     private boolean useLocalHzInstance;
     private boolean useRecovery = true;
-    private IMap<String, DefaultExchangeHolder> cache;
-    private IMap<String, DefaultExchangeHolder> persistedCache;
+    private IMap<String, Object> cache;
+    private IMap<String, Object> persistedCache;
     private HazelcastInstance hzInstance;
     private String mapName;
     private String persistenceMapName;
@@ -72,6 +76,7 @@ public class HazelcastAggregationRepository extends ServiceSupport
     private long recoveryInterval = 5000;
     private int maximumRedeliveries = 3;
     private boolean allowSerializedHeaders;
+    private ExchangeCodec exchangeCodec;
 
     /**
      * Creates new {@link HazelcastAggregationRepository} that defaults to non-optimistic locking
@@ -182,17 +187,17 @@ public class HazelcastAggregationRepository extends ServiceSupport
         }
         LOG.trace("Adding an Exchange with ID {} for key {} in an optimistic manner.", newExchange.getExchangeId(), key);
         if (oldExchange == null) {
-            DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(newExchange, true, allowSerializedHeaders);
-            final DefaultExchangeHolder misbehaviorHolder = cache.putIfAbsent(key, holder);
+            Object holder = marshallExchange(camelContext, newExchange);
+            final Object misbehaviorHolder = cache.putIfAbsent(key, holder);
             if (misbehaviorHolder != null) {
-                Exchange misbehaviorEx = unmarshallExchange(camelContext, misbehaviorHolder);
+                Exchange misbehaviorEx = unmarshallValue(camelContext, misbehaviorHolder);
                 LOG.error("Optimistic locking failed for exchange with key {}: IMap#putIfAbsend returned Exchange with ID {}, while it's expected no exchanges to be returned",
                         key, misbehaviorEx != null ? misbehaviorEx.getExchangeId() : "<null>");
                 throw  new OptimisticLockingException();
             }
         } else {
-            DefaultExchangeHolder oldHolder = DefaultExchangeHolder.marshal(oldExchange, true, allowSerializedHeaders);
-            DefaultExchangeHolder newHolder = DefaultExchangeHolder.marshal(newExchange, true, allowSerializedHeaders);
+            Object oldHolder = marshallExchange(camelContext, oldExchange);
+            Object newHolder = marshallExchange(camelContext, newExchange);
             if (!cache.replace(key, oldHolder, newHolder)) {
                 LOG.error("Optimistic locking failed for exchange with key {}: IMap#replace returned no Exchanges, while it's expected to replace one",
                         key);
@@ -212,9 +217,9 @@ public class HazelcastAggregationRepository extends ServiceSupport
         Lock l = hzInstance.getLock(mapName);
         try {
             l.lock();
-            DefaultExchangeHolder newHolder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
-            DefaultExchangeHolder oldHolder = cache.put(key, newHolder);
-            return unmarshallExchange(camelContext, oldHolder);
+            Object newHolder = marshallExchange(camelContext, exchange);
+            Object oldHolder = cache.put(key, newHolder);
+            return unmarshallValue(camelContext, oldHolder);
         } finally {
             LOG.trace("Added an Exchange with ID {} for key {} in a thread-safe manner.", exchange.getExchangeId(), key);
             l.unlock();
@@ -238,7 +243,7 @@ public class HazelcastAggregationRepository extends ServiceSupport
     @Override
     public Exchange recover(CamelContext camelContext, String exchangeId) {
         LOG.trace("Recovering an Exchange with ID {}.", exchangeId);
-        return useRecovery ? unmarshallExchange(camelContext, persistedCache.get(exchangeId)) : null;
+        return useRecovery ? unmarshallValue(camelContext, persistedCache.get(exchangeId)) : null;
     }
 
     @Override
@@ -288,7 +293,7 @@ public class HazelcastAggregationRepository extends ServiceSupport
 
     @Override
     public Exchange get(CamelContext camelContext, String key) {
-        return unmarshallExchange(camelContext, cache.get(key));
+        return unmarshallValue(camelContext, cache.get(key));
     }
     
     /**
@@ -312,6 +317,19 @@ public class HazelcastAggregationRepository extends ServiceSupport
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * Sets the codec used to marshal the exchanges into bytes, such as {@link BinaryExchangeCodec}, instead of
+     * storing the exchanges as {@link DefaultExchangeHolder} objects which Hazelcast serializes using Java serialization.
+     * All the members of the cluster must use the same codec.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     /**
      * This method performs transactional operation on removing the {@code exchange}
      * from the operational storage and moving it into the persistent one if the {@link HazelcastAggregationRepository}
@@ -322,7 +340,7 @@ public class HazelcastAggregationRepository extends ServiceSupport
      */
     @Override
     public void remove(CamelContext camelContext, String key, Exchange exchange) {
-        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+        Object holder = marshallExchange(camelContext, exchange);
         if (optimistic) {
             LOG.trace("Removing an exchange with ID {} for key {} in an optimistic manner.", exchange.getExchangeId(), key);
             if (!cache.remove(key, holder)) {
@@ -352,10 +370,10 @@ public class HazelcastAggregationRepository extends ServiceSupport
                 try {
                     tCtx.beginTransaction();
 
-                    TransactionalMap<String, DefaultExchangeHolder> tCache = tCtx.getMap(cache.getName());
-                    TransactionalMap<String, DefaultExchangeHolder> tPersistentCache = tCtx.getMap(persistedCache.getName());
+                    TransactionalMap<String, Object> tCache = tCtx.getMap(cache.getName());
+                    TransactionalMap<String, Object> tPersistentCache = tCtx.getMap(persistedCache.getName());
 
-                    DefaultExchangeHolder removedHolder = tCache.remove(key);
+                    Object removedHolder = tCache.remove(key);
                     LOG.trace("Putting an exchange with ID {} for key {} into a recoverable storage in a thread-safe manner.",
                             exchange.getExchangeId(), key);
                     tPersistentCache.put(exchange.getExchangeId(), removedHolder);
@@ -428,6 +446,29 @@ public class HazelcastAggregationRepository extends ServiceSupport
         }
     }
 
+    protected Object marshallExchange(CamelContext camelContext, Exchange exchange) {
+        if (exchangeCodec == null) {
+            return DefaultExchangeHolder.marshal(exchange, true, allowSerializedHeaders);
+        }
+        try {
+            return exchangeCodec.marshallExchange(camelContext, exchange, true, allowSerializedHeaders);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error marshalling exchange " + exchange.getExchangeId(), e);
+        }
+    }
+
+    private Exchange unmarshallValue(CamelContext camelContext, Object value) {
+        if (value instanceof byte[]) {
+            try {
+                ExchangeCodec codec = exchangeCodec != null ? exchangeCodec : new BinaryExchangeCodec();
+                return codec.unmarshallExchange(camelContext, (byte[]) value);
+            } catch (IOException | ClassNotFoundException e) {
+                throw new RuntimeCamelException("Error unmarshalling exchange", e);
+            }
+        }
+        return unmarshallExchange(camelContext, (DefaultExchangeHolder) value);
+    }
+
     protected Exchange unmarshallExchange(CamelContext camelContext, DefaultExchangeHolder holder) {
         Exchange exchange = null;
         if (holder != null) {
@@ -19,6 +19,7 @@ package org.apache.camel.processor.aggregate.hazelcast;
 import java.util.Set;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.junit.Test;
 
 
@@ -58,6 +59,36 @@ public class HazelcastAggregationRepositoryOperationsTest extends HazelcastAggre
         }
     }
 
+    @Test
+    public void checkOptimisticAddWithExchangeCodec() throws Exception {
+        HazelcastAggregationRepository repoOne = new HazelcastAggregationRepository(OPTIMISTIC_REPO, true, getFirstInstance());
+        HazelcastAggregationRepository repoTwo = new HazelcastAggregationRepository(OPTIMISTIC_REPO, true, getSecondInstance());
+        repoOne.setExchangeCodec(new BinaryExchangeCodec());
+        repoTwo.setExchangeCodec(new BinaryExchangeCodec());
+
+        try {
+            repoOne.doStart();
+            repoTwo.doStart();
+
+            final String key = "optimisticCodecKey";
+            Exchange newEx = createExchangeWithBody("This is an optimistic test body.");
+            newEx.setProperty("foo", "bar");
+            assertNull("Old exchange should be null.", repoOne.add(context(), key, null, newEx));
+
+            Exchange gotEx = repoTwo.get(context(), key);
+            assertEquals(newEx.getIn().getBody(), gotEx.getIn().getBody());
+            assertEquals("bar", gotEx.getProperty("foo"));
+
+            Exchange theNewestEx = createExchangeWithBody("This is the newest test body.");
+            Exchange oldEx = repoTwo.add(context(), key, gotEx, theNewestEx);
+            assertSame(gotEx, oldEx);
+            assertEquals(theNewestEx.getIn().getBody(), repoOne.get(context(), key).getIn().getBody());
+        } finally {
+            repoOne.stop();
+            repoTwo.stop();
+        }
+    }
+
     @Test
     public void checkThreadSafeAddOfNewExchange() throws Exception {
         HazelcastAggregationRepository repoOne = new HazelcastAggregationRepository(THREAD_SAFE_REPO, false, getFirstInstance());
@@ -22,8 +22,9 @@ import org.apache.http.auth.NTCredentials;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
-public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfigurer {
+public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfigurer, HttpAsyncClientConfigurer {
     private final String username;
     private final String password;
     private final String domain;
@@ -37,6 +38,14 @@ public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfig
     }
 
     public void configureHttpClient(HttpClientBuilder clientBuilder) {
+        clientBuilder.setDefaultCredentialsProvider(createCredentialsProvider());
+    }
+
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        clientBuilder.setDefaultCredentialsProvider(createCredentialsProvider());
+    }
+
+    private BasicCredentialsProvider createCredentialsProvider() {
         Credentials defaultcreds;
         if (domain != null) {
             defaultcreds = new NTCredentials(username, password, host, domain);
@@ -45,7 +54,7 @@ public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfig
         }
         BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
         credentialsProvider.setCredentials(AuthScope.ANY, defaultcreds);
-        clientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+        return credentialsProvider;
     }
 
 }
\ No newline at end of file
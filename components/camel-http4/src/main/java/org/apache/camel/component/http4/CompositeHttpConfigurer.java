@@ -20,8 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
-public class CompositeHttpConfigurer implements HttpClientConfigurer {
+public class CompositeHttpConfigurer implements HttpClientConfigurer, HttpAsyncClientConfigurer {
 
     private final List<HttpClientConfigurer> configurers = new ArrayList<>();
 
@@ -41,6 +42,14 @@ public class CompositeHttpConfigurer implements HttpClientConfigurer {
         }
     }
 
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        for (HttpClientConfigurer configurer : configurers) {
+            if (configurer instanceof HttpAsyncClientConfigurer) {
+                ((HttpAsyncClientConfigurer) configurer).configureHttpAsyncClient(clientBuilder);
+            }
+        }
+    }
+
     public static CompositeHttpConfigurer combineConfigurers(HttpClientConfigurer oldConfigurer, HttpClientConfigurer newConfigurer) {
         if (oldConfigurer instanceof CompositeHttpConfigurer) {
             ((CompositeHttpConfigurer) oldConfigurer).addConfigurer(newConfigurer);
@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.util.IOHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A producer which calls the remote server using the non-blocking Apache HttpAsyncClient.
+ * <p/>
+ * The request is created and the response is populated as by the {@link HttpProducer}, but the calling thread
+ * is not blocked while the request is in flight. The request body is streamed to the server, the response body
+ * is written to a stream cache as it arrives, and the exchange is continued by the I/O thread of the client
+ * once the response has been received.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        exchange.getContext().getAsyncProcessorAwaitManager().process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            // the client and its I/O threads are created when first used
+            HttpAsyncClient httpAsyncClient = getEndpoint().getHttpAsyncClient();
+            final HttpRequestBase httpRequest = prepareRequest(exchange);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+            }
+            httpAsyncClient.execute(HttpAsyncMethods.create(httpRequest), new CachedResponseConsumer(exchange), createHttpContext(),
+                new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse httpResponse) {
+                        try {
+                            handleResponse(exchange, httpRequest, httpResponse);
+                        } catch (Exception e) {
+                            exchange.setException(e);
+                        } finally {
+                            callback.done(false);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        exchange.setException(e);
+                        callback.done(false);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        exchange.setException(new CamelExchangeException("Http request cancelled", exchange));
+                        callback.done(false);
+                    }
+                });
+        } catch (Exception e) {
+            // such as the request could not be created, or the client is shut down
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the response body to a {@link CachedOutputStream} as it is received, so it does not have to be
+     * held in memory, and the connection can be returned to the pool before the exchange is continued.
+     */
+    private static final class CachedResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+        private final Exchange exchange;
+        private HttpResponse response;
+        private CachedOutputStream cos;
+        private ByteBuffer buffer;
+
+        private CachedResponseConsumer(Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+            // the stream cache is cleaned up when the exchange is done
+            cos = new CachedOutputStream(exchange);
+            buffer = ByteBuffer.allocate(cos.getStrategyBufferSize());
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+            while (decoder.read(buffer) > 0) {
+                cos.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) throws Exception {
+            HttpEntity entity = response.getEntity();
+            if (cos != null && entity != null) {
+                InputStream is = (InputStream) cos.newStreamCache();
+                BasicHttpEntity answer = new BasicHttpEntity();
+                answer.setContent(is);
+                answer.setContentLength(entity.getContentLength());
+                answer.setContentType(entity.getContentType());
+                answer.setContentEncoding(entity.getContentEncoding());
+                answer.setChunked(entity.isChunked());
+                response.setEntity(answer);
+            }
+            return response;
+        }
+
+        @Override
+        protected void releaseResources() {
+            if (cos != null && getException() != null) {
+                IOHelper.close(cos);
+            }
+            buffer = null;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
@@ -62,6 +63,14 @@ import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
 
@@ -204,17 +213,17 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         final Map<String, Object> httpClientOptions = new HashMap<>();
 
         // timeout values can be configured on both component and endpoint level, where endpoint take priority
-        int val = getAndRemoveParameter(parameters, "connectionRequestTimeout", int.class, connectionRequestTimeout);
-        if (val != -1) {
-            httpClientOptions.put("connectionRequestTimeout", val);
+        final int endpointConnectionRequestTimeout = getAndRemoveParameter(parameters, "connectionRequestTimeout", int.class, connectionRequestTimeout);
+        if (endpointConnectionRequestTimeout != -1) {
+            httpClientOptions.put("connectionRequestTimeout", endpointConnectionRequestTimeout);
         }
-        val = getAndRemoveParameter(parameters, "connectTimeout", int.class, connectTimeout);
-        if (val != -1) {
-            httpClientOptions.put("connectTimeout", val);
+        final int endpointConnectTimeout = getAndRemoveParameter(parameters, "connectTimeout", int.class, connectTimeout);
+        if (endpointConnectTimeout != -1) {
+            httpClientOptions.put("connectTimeout", endpointConnectTimeout);
         }
-        val = getAndRemoveParameter(parameters, "socketTimeout", int.class, socketTimeout);
-        if (val != -1) {
-            httpClientOptions.put("socketTimeout", val);
+        final int endpointSocketTimeout = getAndRemoveParameter(parameters, "socketTimeout", int.class, socketTimeout);
+        if (endpointSocketTimeout != -1) {
+            httpClientOptions.put("socketTimeout", endpointSocketTimeout);
         }
 
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
@@ -326,6 +335,13 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             endpoint.setCookieStore(getCookieStore());
         }
         endpoint.setHttpClientOptions(httpClientOptions);
+        endpoint.setConnectionRequestTimeout(endpointConnectionRequestTimeout);
+        endpoint.setConnectTimeout(endpointConnectTimeout);
+        endpoint.setSocketTimeout(endpointSocketTimeout);
+        if (endpoint.getSslContextParameters() == null) {
+            // the async connection manager is created when the endpoint is first used
+            endpoint.setSslContextParameters(sslContextParameters);
+        }
         
         return endpoint;
     }
@@ -409,6 +425,36 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return answer;
     }
 
+    /**
+     * Creates the connection manager of the HttpAsyncClient, with the same limits as the given connection manager of HttpClient.
+     */
+    protected NHttpClientConnectionManager createAsyncConnectionManager(HttpClientConnectionManager connectionManager, SSLContextParameters sslContextParams)
+        throws GeneralSecurityException, IOException {
+        SSLContext sslContext = sslContextParams != null ? sslContextParams.createSSLContext(getCamelContext()) : SSLContexts.createDefault();
+        RegistryBuilder<SchemeIOSessionStrategy> builder = RegistryBuilder.<SchemeIOSessionStrategy>create();
+        builder.register("http", NoopIOSessionStrategy.INSTANCE);
+        builder.register("http4", NoopIOSessionStrategy.INSTANCE);
+        builder.register("https", new SSLIOSessionStrategy(sslContext, x509HostnameVerifier));
+        builder.register("https4", new SSLIOSessionStrategy(sslContext, x509HostnameVerifier));
+
+        // the I/O threads are named as the other threads created by Camel
+        ConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT,
+            r -> getCamelContext().getExecutorServiceManager().newThread("HttpAsyncClient", r));
+        PoolingNHttpClientConnectionManager answer = new PoolingNHttpClientConnectionManager(ioReactor, null, builder.build(),
+            null, null, getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        if (connectionManager instanceof PoolingHttpClientConnectionManager) {
+            PoolingHttpClientConnectionManager pool = (PoolingHttpClientConnectionManager) connectionManager;
+            answer.setMaxTotal(pool.getMaxTotal());
+            answer.setDefaultMaxPerRoute(pool.getDefaultMaxPerRoute());
+        } else {
+            answer.setMaxTotal(getMaxTotalConnections());
+            answer.setDefaultMaxPerRoute(getConnectionsPerRoute());
+        }
+        log.info("Created AsyncConnectionManager {}", answer);
+
+        return answer;
+    }
+
     @Override
     protected boolean useIntrospectionOnEndpoint() {
         return false;
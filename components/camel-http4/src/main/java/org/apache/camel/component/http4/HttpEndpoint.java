@@ -45,6 +45,10 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
@@ -115,6 +119,16 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private int connectionsPerRoute;
     @UriParam(label = "security", description = "To use a custom X509HostnameVerifier such as DefaultHostnameVerifier or NoopHostnameVerifier")
     private HostnameVerifier x509HostnameVerifier;
+    @UriParam(label = "producer,advanced", description = "Whether the producer should use the non-blocking Apache HttpAsyncClient instead of HttpClient."
+        + " The calling thread is then not blocked while the request is in flight, and the exchange is continued by the I/O thread of the client"
+        + " when the response has been received. The number of requests in flight per host is bounded by connectionsPerRoute,"
+        + " and any further requests are queued until a connection is available."
+        + " The response body is always cached, as the connection is released before the exchange is continued, so disableStreamCache does not apply."
+        + " Notice the clientBuilder option only applies to HttpClient, and a custom httpClientConfigurer only applies to HttpAsyncClient"
+        + " if it implements HttpAsyncClientConfigurer as well.")
+    private boolean useAsyncClient;
+    private NHttpClientConnectionManager asyncConnectionManager;
+    private volatile CloseableHttpAsyncClient httpAsyncClient;
 
     public HttpEndpoint() {
     }
@@ -141,6 +155,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (isUseAsyncClient()) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -188,16 +205,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                log.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", host, port, scheme);
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = createProxyFromGlobalOptions();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -223,6 +232,87 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    /**
+     * Gets the HttpAsyncClient, which is created and started when first used, as it runs its own I/O threads.
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient() throws Exception {
+        CloseableHttpAsyncClient answer = httpAsyncClient;
+        if (answer == null) {
+            synchronized (this) {
+                answer = httpAsyncClient;
+                if (answer == null) {
+                    answer = createHttpAsyncClient();
+                    answer.start();
+                    httpAsyncClient = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance, and the connection manager it owns
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws Exception {
+        asyncConnectionManager = getComponent().createAsyncConnectionManager(clientConnectionManager, sslContextParameters);
+
+        HttpAsyncClientBuilder asyncClientBuilder = HttpAsyncClients.custom();
+        asyncClientBuilder.setConnectionManager(asyncConnectionManager);
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            asyncClientBuilder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            asyncClientBuilder.setDefaultCookieStore(cookieStore);
+        }
+
+        asyncClientBuilder.setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(connectionRequestTimeout)
+            .setConnectTimeout(connectTimeout)
+            .setSocketTimeout(socketTimeout)
+            .build());
+
+        if (!useSystemProperties) {
+            // configure http proxy from camelContext
+            HttpHost proxy = createProxyFromGlobalOptions();
+            if (proxy != null) {
+                asyncClientBuilder.setProxy(proxy);
+            }
+        } else {
+            asyncClientBuilder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            // setup the PreemptiveAuthInterceptor here
+            asyncClientBuilder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+
+        // the authentication and proxy options are configured by configurers which supports HttpAsyncClient as well
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer instanceof HttpAsyncClientConfigurer) {
+            ((HttpAsyncClientConfigurer) configurer).configureHttpAsyncClient(asyncClientBuilder);
+        }
+
+        log.debug("Setup the HttpAsyncClientBuilder {}", asyncClientBuilder);
+        return asyncClientBuilder.build();
+    }
+
+    private HttpHost createProxyFromGlobalOptions() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            log.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", host, port, scheme);
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -237,6 +327,14 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable)httpClient);
         }
+        synchronized (this) {
+            if (httpAsyncClient != null) {
+                // also shuts down the async connection manager, so both are created again when used after a restart
+                IOHelper.close(httpAsyncClient);
+                httpAsyncClient = null;
+                asyncConnectionManager = null;
+            }
+        }
     }
 
     // Properties
@@ -391,6 +489,30 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.connectionsPerRoute = connectionsPerRoute;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking Apache HttpAsyncClient instead of HttpClient.
+     * The calling thread is then not blocked while the request is in flight, and the exchange is continued
+     * by the I/O thread of the client when the response has been received.
+     * The number of requests in flight per host is bounded by connectionsPerRoute, and any further requests
+     * are queued until a connection is available.
+     * <p/>
+     * The response body is always cached, as the connection is released before the exchange is continued,
+     * so disableStreamCache does not apply.
+     * Notice the clientBuilder option only applies to HttpClient, and a custom httpClientConfigurer only applies to HttpAsyncClient
+     * if it implements {@link HttpAsyncClientConfigurer} as well.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public NHttpClientConnectionManager getAsyncConnectionManager() {
+        return asyncConnectionManager;
+    }
+
     public HostnameVerifier getX509HostnameVerifier() {
         return x509HostnameVerifier;
     }
@@ -475,12 +597,18 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.socketTimeout = socketTimeout;
     }
 
+    private ConnPoolControl<?> getConnPoolControl() {
+        // the connections of the async client when it is used
+        Object manager = useAsyncClient ? asyncConnectionManager : clientConnectionManager;
+        if (manager instanceof ConnPoolControl) {
+            return (ConnPoolControl<?>) manager;
+        }
+        return null;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -492,10 +620,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -507,10 +632,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -523,10 +645,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
         + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
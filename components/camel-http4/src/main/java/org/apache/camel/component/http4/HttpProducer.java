@@ -38,6 +38,7 @@ import java.util.stream.Collectors;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
+import org.apache.camel.StreamCache;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.http4.helper.HttpMethodHelper;
 import org.apache.camel.converter.stream.CachedOutputStream;
@@ -89,7 +90,49 @@ public class HttpProducer extends DefaultProducer {
     }
 
     public void process(Exchange exchange) throws Exception {
+        HttpRequestBase httpRequest = prepareRequest(exchange);
 
+        // lets store the result in the output message.
+        HttpResponse httpResponse = null;
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+            }
+            httpResponse = executeMethod(httpRequest);
+            handleResponse(exchange, httpRequest, httpResponse);
+        } finally {
+            final HttpResponse response = httpResponse;
+            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                exchange.addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        try {
+                            EntityUtils.consume(response.getEntity());
+                        } catch (Throwable e) {
+                            // ignore
+                        }
+                    }
+                });
+            } else if (httpResponse != null) {
+                // close the stream now
+                try {
+                    EntityUtils.consume(response.getEntity());
+                } catch (Throwable e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the request to send for the exchange, with the message headers and cookies as HTTP headers.
+     *
+     * @param exchange the exchange
+     * @return the request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpRequestBase prepareRequest(Exchange exchange) throws Exception {
         if (getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
             getEndpoint().getCookieStore().clearExpired(new Date());
@@ -179,50 +222,36 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HTTP.CONN_CLOSE);
         }
 
-        // lets store the result in the output message.
-        HttpResponse httpResponse = null;
-        try {
-            if (log.isDebugEnabled()) {
-                log.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
-            }
-            httpResponse = executeMethod(httpRequest);
-            int responseCode = httpResponse.getStatusLine().getStatusCode();
-            log.debug("Http responseCode: {}", responseCode);
+        return httpRequest;
+    }
+
+    /**
+     * Populates the exchange with the response received from the remote server, or throws the failure if
+     * the response code is not ok and <tt>throwExceptionOnFailure</tt> is enabled.
+     *
+     * @param exchange the exchange
+     * @param httpRequest the request sent
+     * @param httpResponse the response received
+     * @throws Exception is thrown if the request failed, or error extracting the response
+     */
+    protected void handleResponse(Exchange exchange, HttpRequestBase httpRequest, HttpResponse httpResponse) throws Exception {
+        Message in = exchange.getIn();
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+
+        int responseCode = httpResponse.getStatusLine().getStatusCode();
+        log.debug("Http responseCode: {}", responseCode);
 
-            if (!throwException) {
-                // if we do not use failed exception then populate response for all response codes
+        if (!throwException) {
+            // if we do not use failed exception then populate response for all response codes
+            populateResponse(exchange, httpRequest, httpResponse, in, strategy, responseCode);
+        } else {
+            boolean ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+            if (ok) {
+                // only populate response for OK response
                 populateResponse(exchange, httpRequest, httpResponse, in, strategy, responseCode);
             } else {
-                boolean ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
-                if (ok) {
-                    // only populate response for OK response
-                    populateResponse(exchange, httpRequest, httpResponse, in, strategy, responseCode);
-                } else {
-                    // operation failed so populate exception to throw
-                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
-                }
-            }
-        } finally {
-            final HttpResponse response = httpResponse;
-            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
-                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                exchange.addOnCompletion(new SynchronizationAdapter() {
-                    @Override
-                    public void onDone(Exchange exchange) {
-                        try {
-                            EntityUtils.consume(response.getEntity());
-                        } catch (Throwable e) {
-                            // ignore
-                        }
-                    }
-                });
-            } else if (httpResponse != null) {
-                // close the stream now
-                try {
-                    EntityUtils.consume(response.getEntity());
-                } catch (Throwable e) {
-                    // ignore
-                }
+                // operation failed so populate exception to throw
+                throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
             }
         }
     }
@@ -318,6 +347,13 @@ public class HttpProducer extends DefaultProducer {
      * @throws IOException can be thrown
      */
     protected HttpResponse executeMethod(HttpUriRequest httpRequest) throws IOException {
+        return httpClient.execute(httpRequest, createHttpContext());
+    }
+
+    /**
+     * Creates the context to execute a request with.
+     */
+    protected HttpContext createHttpContext() {
         HttpContext localContext = new BasicHttpContext();
         if (getEndpoint().isAuthenticationPreemptive()) {
             BasicScheme basicAuth = new BasicScheme();
@@ -326,7 +362,7 @@ public class HttpProducer extends DefaultProducer {
         if (httpContext != null) {
             localContext = new BasicHttpContext(httpContext);
         }
-        return httpClient.execute(httpRequest, localContext);
+        return localContext;
     }
 
     /**
@@ -390,7 +426,8 @@ public class HttpProducer extends DefaultProducer {
                 // wrap the response in a stream cache so its re-readable
                 InputStream response = null;
                 if (!ignoreResponseBody) {
-                    response = doExtractResponseBodyAsStream(is, exchange);
+                    // the response may already be cached, such as by the async producer
+                    response = is instanceof StreamCache ? is : doExtractResponseBodyAsStream(is, exchange);
                 }
                 return response;
             } else {
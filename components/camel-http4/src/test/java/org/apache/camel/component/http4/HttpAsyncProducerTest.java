@@ -0,0 +1,198 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer localServer;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/echo", (request, response, context) -> {
+                    byte[] body = EntityUtils.toByteArray(((HttpEntityEnclosingRequest) request).getEntity());
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new ByteArrayEntity(body));
+                }).
+                registerHandler("/slow", (request, response, context) -> {
+                    int current = inFlight.incrementAndGet();
+                    maxInFlight.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("Bye World"));
+                }).
+                registerHandler("/fail", (request, response, context) -> {
+                    response.setStatusCode(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+                    response.setEntity(new StringEntity("Failed"));
+                }).create();
+        localServer.start();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testEcho() throws Exception {
+        Exchange exchange = template.request(url("/echo"), e -> e.getIn().setBody("Hello World"));
+
+        assertNull(exchange.getException());
+        assertEquals(HttpStatus.SC_OK, exchange.getOut().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertEquals("Hello World", exchange.getOut().getBody(String.class));
+    }
+
+    @Test
+    public void testLargeBody() throws Exception {
+        // larger than the default spool threshold of the stream cache
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("Hello World ");
+        }
+        String body = sb.toString();
+
+        assertEquals(body, template.requestBody(url("/echo"), body, String.class));
+    }
+
+    @Test
+    public void testInFlightRequestsBoundedPerRoute() throws Exception {
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(template.asyncRequestBody(url("/slow") + "&connectionsPerRoute=2", null, String.class));
+        }
+        for (Future<String> reply : replies) {
+            assertEquals("Bye World", reply.get());
+        }
+
+        assertTrue("Should be at most 2 requests in flight, was " + maxInFlight.get(), maxInFlight.get() <= 2);
+
+        HttpEndpoint endpoint = context.getEndpoint(url("/slow") + "&connectionsPerRoute=2", HttpEndpoint.class);
+        assertEquals(0, endpoint.getClientConnectionsPoolStatsLeased());
+        assertEquals(0, endpoint.getClientConnectionsPoolStatsPending());
+    }
+
+    @Test
+    public void testThrowExceptionOnFailure() throws Exception {
+        try {
+            template.requestBody(url("/fail"), "Hello World", String.class);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, e.getCause());
+            assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, cause.getStatusCode());
+            assertEquals("Failed", cause.getResponseBody());
+        }
+    }
+
+    @Test
+    public void testAsyncClientIsCreatedWhenUsed() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(url("/echo") + "&connectionsPerRoute=3", HttpEndpoint.class);
+        assertNull(endpoint.getAsyncConnectionManager());
+
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+        assertNull(endpoint.getAsyncConnectionManager());
+
+        Exchange exchange = createExchangeWithBody("Hello World");
+        producer.process(exchange);
+        assertEquals("Hello World", exchange.getOut().getBody(String.class));
+        assertNotNull(endpoint.getAsyncConnectionManager());
+        producer.stop();
+    }
+
+    @Test
+    public void testEndpointRestart() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(url("/echo"), HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+        Exchange exchange = createExchangeWithBody("Hello World");
+        producer.process(exchange);
+        assertEquals("Hello World", exchange.getOut().getBody(String.class));
+        producer.stop();
+
+        endpoint.stop();
+        endpoint.start();
+
+        producer.start();
+        exchange = createExchangeWithBody("Bye World");
+        producer.process(exchange);
+        assertNull(exchange.getException());
+        assertEquals("Bye World", exchange.getOut().getBody(String.class));
+        producer.stop();
+    }
+
+    @Test
+    public void testExchangeFailsWhenClientIsClosed() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(url("/echo"), HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.start();
+
+        endpoint.getHttpAsyncClient().close();
+
+        Exchange exchange = createExchangeWithBody("Hello World");
+        AtomicBoolean doneSync = new AtomicBoolean();
+        assertTrue(producer.process(exchange, doneSync::set));
+        assertTrue(doneSync.get());
+        assertNotNull(exchange.getException());
+        producer.stop();
+    }
+
+    private String url(String path) {
+        return "http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + path + "?useAsyncClient=true";
+    }
+}
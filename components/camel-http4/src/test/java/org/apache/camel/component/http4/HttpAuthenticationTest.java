@@ -92,6 +92,17 @@ public class HttpAuthenticationTest extends BaseHttpTest {
         assertExchange(exchange);
     }
 
+    @Test
+    public void basicAuthenticationWithAsyncClientShouldSuccess() throws Exception {
+        Exchange exchange = template.request("http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+            + password + "&useAsyncClient=true", new Processor() {
+                public void process(Exchange exchange) throws Exception {
+                }
+            });
+
+        assertExchange(exchange);
+    }
+
     @Test
     public void basicAuthenticationShouldFailWithoutCreds() throws Exception {
         Exchange exchange = template.request("http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?throwExceptionOnFailure=false", new Processor() {
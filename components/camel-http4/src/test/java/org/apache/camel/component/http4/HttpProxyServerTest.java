@@ -114,6 +114,18 @@ public class HttpProxyServerTest extends BaseHttpTest {
         assertExchange(exchange);
     }
 
+    @Test
+    public void httpGetWithProxyUsingAsyncClient() throws Exception {
+        // the target host does not exist, so the request must be sent to the proxy
+        Exchange exchange = template.request("http4://non-existing-host.invalid/?proxyAuthHost=" + getProxyHost() + "&proxyAuthPort=" + getProxyPort()
+            + "&useAsyncClient=true", new Processor() {
+                public void process(Exchange exchange) throws Exception {
+                }
+            });
+
+        assertExchange(exchange);
+    }
+
     private String getProxyHost() {
         return proxy.getInetAddress().getHostName();
     }
@@ -80,7 +80,13 @@ public class JdbcProducer extends DefaultProducer {
 
             shouldCloseResources = createAndExecuteSqlStatement(exchange, sql, conn);
 
-            conn.commit();
+            if (shouldCloseResources) {
+                conn.commit();
+            } else {
+                // keep the transaction open while streaming as some databases (such as PostgreSQL)
+                // only honour the fetch size when the rows are fetched in a transaction
+                exchange.addOnCompletion(new CommitCompletion(conn, autoCommit));
+            }
         } catch (Exception e) {
             try {
                 if (conn != null) {
@@ -147,6 +153,11 @@ public class JdbcProducer extends DefaultProducer {
                 ps = conn.prepareStatement(preparedQuery);
             }
 
+            if (parameters != null && !parameters.isEmpty()) {
+                Map<String, Object> copy = new HashMap<>(parameters);
+                IntrospectionSupport.setProperties(ps, copy);
+            }
+
             int expectedCount = ps.getParameterMetaData().getParameterCount();
 
             if (expectedCount > 0) {
@@ -394,6 +405,36 @@ public class JdbcProducer extends DefaultProducer {
         return answer;
     }
 
+    private final class CommitCompletion implements Synchronization {
+        private final Connection connection;
+        private final Boolean autoCommit;
+
+        private CommitCompletion(Connection connection, Boolean autoCommit) {
+            this.connection = connection;
+            this.autoCommit = autoCommit;
+        }
+
+        @Override
+        public void onComplete(Exchange exchange) {
+            try {
+                connection.commit();
+            } catch (Throwable sqle) {
+                log.warn("Error occurred during jdbc commit. This exception will be ignored.", sqle);
+            }
+            resetAutoCommit(connection, autoCommit);
+        }
+
+        @Override
+        public void onFailure(Exchange exchange) {
+            try {
+                connection.rollback();
+            } catch (Throwable sqle) {
+                log.warn("Error occurred during jdbc rollback. This exception will be ignored.", sqle);
+            }
+            resetAutoCommit(connection, autoCommit);
+        }
+    }
+
     private static final class ResultSetIteratorCompletion implements Synchronization {
         private final ResultSetIterator iterator;
 
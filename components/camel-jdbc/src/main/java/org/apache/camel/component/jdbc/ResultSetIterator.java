@@ -23,7 +23,6 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -41,6 +40,7 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
     private final Statement statement;
     private final ResultSet resultSet;
     private final Column[] columns;
+    private final ResultSetRow.Schema schema;
     private final boolean useGetBytes;
     private final AtomicBoolean closed = new AtomicBoolean();
 
@@ -52,9 +52,11 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
 
         ResultSetMetaData metaData = resultSet.getMetaData();
         columns = new Column[metaData.getColumnCount()];
+        String[] columnNames = new String[columns.length];
         for (int i = 0; i < columns.length; i++) {
             int columnNumber = i + 1;
             String columnName = getColumnName(metaData, columnNumber, isJDBC4);
+            columnNames[i] = columnName;
             int columnType = metaData.getColumnType(columnNumber);
             if (columnType == Types.CLOB || columnType == Types.BLOB) {
                 columns[i] = new BlobColumn(columnName, columnNumber);
@@ -62,6 +64,8 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
                 columns[i] = new DefaultColumn(columnName, columnNumber);
             }
         }
+        // the column names are shared by all the rows
+        schema = new ResultSetRow.Schema(columnNames);
 
         loadNext();
     }
@@ -78,16 +82,17 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         }
 
         try {
-            Map<String, Object> row = new LinkedHashMap<>();
-            for (Column column : columns) {
+            Object[] values = new Object[schema.size()];
+            for (int i = 0; i < columns.length; i++) {
+                Column column = columns[i];
                 if (useGetBytes && column instanceof BlobColumn) {
-                    row.put(column.getName(), ((BlobColumn) column).getBytes(resultSet));
+                    values[schema.indexOf(i)] = ((BlobColumn) column).getBytes(resultSet);
                 } else {
-                    row.put(column.getName(), column.getValue(resultSet));
+                    values[schema.indexOf(i)] = column.getValue(resultSet);
                 }
             }
             loadNext();
-            return row;
+            return new ResultSetRow(schema, values);
         } catch (SQLException e) {
             close();
             throw new RuntimeCamelException("Cannot process result", e);
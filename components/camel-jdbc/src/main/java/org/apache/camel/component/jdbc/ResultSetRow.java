@@ -0,0 +1,216 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A row of a {@link ResultSetIterator}.
+ * <p/>
+ * The values are kept in an array, and the column names and their positions are shared by all the rows of
+ * the result set, instead of allocating a map with an entry per column for every row. The row behaves as a
+ * {@link LinkedHashMap}, and is copied into one when a column is added or removed, or when it is serialized.
+ */
+final class ResultSetRow extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Schema schema;
+    private final transient Object[] values;
+    private transient Map<String, Object> copy;
+
+    ResultSetRow(Schema schema, Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return copy != null ? copy.size() : values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return copy != null ? copy.containsKey(key) : schema.indexes.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (copy != null) {
+            return copy.get(key);
+        }
+        Integer index = schema.indexes.get(key);
+        return index != null ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (copy == null) {
+            Integer index = schema.indexes.get(key);
+            if (index != null) {
+                Object answer = values[index];
+                values[index] = value;
+                return answer;
+            }
+        }
+        return modifiable().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return modifiable().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        modifiable().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (copy != null) {
+            return copy.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return new RowEntry(index++);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    private Map<String, Object> modifiable() {
+        if (copy == null) {
+            copy = new LinkedHashMap<>(this);
+        }
+        return copy;
+    }
+
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    private final class RowEntry implements Entry<String, Object> {
+        private final int index;
+
+        private RowEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return schema.names[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * The column names of a result set, shared by all its rows.
+     * <p/>
+     * As with a map, a column name which occurs more than once keeps its first position and the value of its last column.
+     */
+    static final class Schema {
+        private final String[] names;
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+        private final int[] columnIndexes;
+
+        Schema(String[] columnNames) {
+            columnIndexes = new int[columnNames.length];
+            for (int i = 0; i < columnNames.length; i++) {
+                Integer index = indexes.get(columnNames[i]);
+                if (index == null) {
+                    index = indexes.size();
+                    indexes.put(columnNames[i], index);
+                }
+                columnIndexes[i] = index;
+            }
+            names = indexes.keySet().toArray(new String[indexes.size()]);
+        }
+
+        /**
+         * The number of distinct column names
+         */
+        int size() {
+            return names.length;
+        }
+
+        /**
+         * The index in the row values of the column at the given (zero based) position in the result set
+         */
+        int indexOf(int column) {
+            return columnIndexes[column];
+        }
+    }
+}
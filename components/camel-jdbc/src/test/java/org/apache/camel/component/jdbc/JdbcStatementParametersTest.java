@@ -41,6 +41,15 @@ public class JdbcStatementParametersTest extends AbstractJdbcTestSupport {
         assertEquals(3, context.getEndpoints().size());
     }
 
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void testMax2RowsWithHeadersAsParameters() throws Exception {
+        List rows = template.requestBodyAndHeader("jdbc:testdb?useHeadersAsParameters=true&statement.maxRows=2",
+            "select * from customer where id <> :?id order by id", "id", "cust0", List.class);
+
+        assertEquals(2, rows.size());
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     public void testNoParameters() throws Exception {
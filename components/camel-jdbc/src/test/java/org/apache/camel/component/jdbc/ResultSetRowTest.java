@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultSetRowTest {
+
+    private final ResultSetRow.Schema schema = new ResultSetRow.Schema(new String[]{"ID", "NAME", "ID"});
+
+    @Test
+    public void testBehavesAsLinkedHashMap() throws Exception {
+        ResultSetRow row = new ResultSetRow(schema, new Object[]{2, "Camel"});
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("ID", 2);
+        expected.put("NAME", "Camel");
+
+        assertEquals(expected, row);
+        assertEquals(row, expected);
+        assertEquals(expected.hashCode(), row.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(row.keySet()));
+        assertEquals("Camel", row.get("NAME"));
+        assertNull(row.get("name"));
+    }
+
+    @Test
+    public void testModify() throws Exception {
+        ResultSetRow row = new ResultSetRow(schema, new Object[]{1, "Camel"});
+
+        assertEquals("Camel", row.put("NAME", "AMQ"));
+        assertEquals("AMQ", row.get("NAME"));
+
+        row.put("LICENSE", "ASF");
+        row.remove("ID");
+        assertEquals(2, row.size());
+        assertEquals("ASF", row.get("LICENSE"));
+        assertEquals("AMQ", row.get("NAME"));
+    }
+
+    @Test
+    public void testSerializedAsLinkedHashMap() throws Exception {
+        ResultSetRow row = new ResultSetRow(schema, new Object[]{1, "Camel"});
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(row);
+        }
+        Object copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = in.readObject();
+        }
+
+        assertTrue(copy instanceof LinkedHashMap);
+        assertEquals(row, copy);
+    }
+}
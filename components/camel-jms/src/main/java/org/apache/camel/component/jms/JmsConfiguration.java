@@ -409,6 +409,13 @@ public class JmsConfiguration implements Cloneable {
                     + " Note: If using temporary queues then CACHE_NONE is not allowed,"
                     + " and you must use a higher value such as CACHE_CONSUMER or CACHE_SESSION.")
     private String replyToCacheLevelName;
+    @UriParam(defaultValue = "Default", label = "producer,advanced",
+            description = "The consumer type of the reply consumer when doing request/reply over JMS, which can be one of: Default or Simple."
+                    + " This option only applies when using exclusive reply queues (replyToType=Exclusive)."
+                    + " Default will use org.springframework.jms.listener.DefaultMessageListenerContainer which polls for reply messages."
+                    + " Simple will use org.springframework.jms.listener.SimpleMessageListenerContainer which registers a JMS MessageListener,"
+                    + " so the broker can push and prefetch the reply messages, which gives a higher throughput with many concurrent callers.")
+    private ConsumerType replyToConsumerType = ConsumerType.Default;
     @UriParam(defaultValue = "true", label = "producer,advanced",
             description = "Whether to allow sending messages with no body. If this option is false and the message body is null, then an JMSException is thrown.")
     private boolean allowNullBody = true;
@@ -2018,6 +2025,21 @@ public class JmsConfiguration implements Cloneable {
         return replyToCacheLevelName;
     }
 
+    public ConsumerType getReplyToConsumerType() {
+        return replyToConsumerType;
+    }
+
+    /**
+     * The consumer type of the reply consumer when doing request/reply over JMS, which can be one of: Default or Simple.
+     * This option only applies when using exclusive reply queues (replyToType=Exclusive).
+     * Default will use org.springframework.jms.listener.DefaultMessageListenerContainer which polls for reply messages.
+     * Simple will use org.springframework.jms.listener.SimpleMessageListenerContainer which registers a JMS MessageListener,
+     * so the broker can push and prefetch the reply messages, which gives a higher throughput with many concurrent callers.
+     */
+    public void setReplyToConsumerType(ConsumerType replyToConsumerType) {
+        this.replyToConsumerType = replyToConsumerType;
+    }
+
     public boolean isAllowNullBody() {
         return allowNullBody;
     }
@@ -538,6 +538,10 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         return getConfiguration().getReplyToCacheLevelName();
     }
 
+    public ConsumerType getReplyToConsumerType() {
+        return getConfiguration().getReplyToConsumerType();
+    }
+
     @ManagedAttribute
     public String getClientId() {
         return getConfiguration().getClientId();
@@ -16,24 +16,58 @@
  */
 package org.apache.camel.component.jms.reply;
 
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which
  * has been timed out, and thus should trigger the waiting {@link org.apache.camel.Exchange} to
  * timeout as well.
+ * <p/>
+ * The correlation ids are kept in a {@link ConcurrentHashMap} without any additional locking, and the timeouts
+ * are tracked with a hashed timing wheel: every entry is added to the bucket of the tick in which it expires, and
+ * the background task only visits the buckets of the ticks which has passed since it last ran, instead of
+ * scanning all the entries in the map. The tick is the request timeout checker interval.
+ * <p/>
+ * An entry is only handled once: whoever removes it from the map first, either the reply or the timeout, wins.
  */
-public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+public class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
 
+    // must be a power of two
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final ConcurrentMap<String, TimeoutEntry> map = new ConcurrentHashMap<>();
+    private final Queue<TimeoutEntry>[] wheel;
+    private final ScheduledExecutorService executor;
+    private final long tickMillis;
+    private volatile ScheduledFuture<?> future;
+    private volatile long lastTick;
     private CorrelationListener listener;
     private ExecutorService executorService;
 
+    @SuppressWarnings("unchecked")
     public CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.tickMillis = Math.max(1, requestMapPollTimeMillis);
         this.executorService = executorService;
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = currentTime() / tickMillis;
     }
 
     public void setListener(CorrelationListener listener) {
@@ -76,11 +110,22 @@ public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandle
 
     @Override
     public ReplyHandler get(String key) {
-        ReplyHandler answer = super.get(key);
+        TimeoutEntry entry = map.get(key);
+        ReplyHandler answer = entry != null ? entry.value : null;
         log.trace("Get correlationID: {} -> {}", key, answer != null);
         return answer;
     }
 
+    @Override
+    public Object[] getKeys() {
+        return map.keySet().toArray();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
         try {
@@ -91,15 +136,11 @@ public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandle
             // ignore
         }
 
-        ReplyHandler result;
-        if (timeoutMillis <= 0) {
-            // no timeout (must use Integer.MAX_VALUE)
-            result = super.put(key, value, Integer.MAX_VALUE);
-        } else {
-            result = super.put(key, value, timeoutMillis);
-        }
+        TimeoutEntry entry = new TimeoutEntry(key, value, timeoutMillis);
+        TimeoutEntry result = map.put(key, entry);
+        schedule(entry);
         log.trace("Added correlationID: {} to timeout after: {} millis", key, timeoutMillis);
-        return result;
+        return result != null ? result.release() : null;
     }
 
     @Override
@@ -112,19 +153,16 @@ public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandle
             // ignore
         }
 
-        ReplyHandler result;
-        if (timeoutMillis <= 0) {
-            // no timeout (must use Integer.MAX_VALUE)
-            result = super.putIfAbsent(key, value, Integer.MAX_VALUE);
-        } else {
-            result = super.putIfAbsent(key, value, timeoutMillis);
-        }
+        TimeoutEntry entry = new TimeoutEntry(key, value, timeoutMillis);
+        TimeoutEntry result = map.putIfAbsent(key, entry);
         if (result == null) {
+            schedule(entry);
             log.trace("Added correlationID: {} to timeout after: {} millis", key, timeoutMillis);
+            return null;
         } else {
             log.trace("Duplicate correlationID: {} detected", key);
+            return result.value;
         }
-        return result;
     }
 
     @Override
@@ -137,9 +175,125 @@ public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandle
             // ignore
         }
 
-        ReplyHandler answer = super.remove(key);
-        log.trace("Removed correlationID: {} -> {}", key, answer != null);
-        return answer;
+        // the entry is left in its bucket of the wheel, and is discarded when that bucket is visited
+        TimeoutEntry entry = map.remove(key);
+        log.trace("Removed correlationID: {} -> {}", key, entry != null);
+        return entry != null ? entry.release() : null;
+    }
+
+    /**
+     * The timer task which purges timed out requests
+     */
+    @Override
+    public void run() {
+        // only run if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        try {
+            purge();
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next run
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    @Override
+    public synchronized void purge() {
+        long now = currentTime();
+        long currentTick = now / tickMillis;
+        long from = lastTick + 1;
+        if (currentTick - from >= WHEEL_SIZE) {
+            // we are more than a full round behind so visit each bucket once
+            from = currentTick - WHEEL_SIZE + 1;
+        }
+        for (long tick = from; tick <= currentTick; tick++) {
+            expireBucket(wheel[(int) (tick & WHEEL_MASK)], now);
+        }
+        lastTick = currentTick;
+    }
+
+    private void expireBucket(Queue<TimeoutEntry> bucket, long now) {
+        for (Iterator<TimeoutEntry> it = bucket.iterator(); it.hasNext();) {
+            TimeoutEntry entry = it.next();
+            if (map.get(entry.key) != entry) {
+                // the reply has been received, or the correlation id has been updated
+                it.remove();
+            } else if (entry.deadline <= now) {
+                it.remove();
+                // only evict if the reply did not remove it in the meantime
+                if (map.remove(entry.key, entry)) {
+                    log.debug("Evicting inactive correlationID: {}", entry.key);
+                    onEviction(entry.key, entry.release());
+                }
+            }
+            // otherwise the entry expires in a later round of the wheel
+        }
+    }
+
+    private void schedule(TimeoutEntry entry) {
+        if (entry.deadline == Long.MAX_VALUE) {
+            // no timeout
+            return;
+        }
+        // the first tick at or after the deadline, but never a tick which has already been visited
+        long tick = Math.max((entry.deadline + tickMillis - 1) / tickMillis, lastTick + 1);
+        wheel[(int) (tick & WHEEL_MASK)].offer(entry);
+        if (lastTick >= tick) {
+            // the purge task visited the bucket while we were adding to it, so add it to the next bucket as well
+            // (the entry can only be evicted once as it is removed from the map)
+            wheel[(int) ((lastTick + 1) & WHEEL_MASK)].offer(entry);
+        }
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        future = executor.scheduleWithFixedDelay(this, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        map.clear();
+        for (Queue<TimeoutEntry> bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    private final class TimeoutEntry {
+        private final String key;
+        private final long deadline;
+        private volatile ReplyHandler value;
+
+        TimeoutEntry(String key, ReplyHandler value, long timeoutMillis) {
+            this.key = key;
+            this.value = value;
+            // no timeout if zero or negative
+            this.deadline = timeoutMillis > 0 ? currentTime() + timeoutMillis : Long.MAX_VALUE;
+        }
+
+        /**
+         * Called by whoever removed the entry from the map, so the entry does not keep the exchange
+         * in memory while it waits in the wheel.
+         */
+        ReplyHandler release() {
+            ReplyHandler answer = value;
+            value = null;
+            return answer;
+        }
     }
 
 }
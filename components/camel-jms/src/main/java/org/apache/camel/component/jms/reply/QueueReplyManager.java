@@ -27,10 +27,13 @@ import javax.jms.Session;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.component.jms.ConsumerType;
 import org.apache.camel.component.jms.DefaultSpringErrorHandler;
 import org.apache.camel.component.jms.ReplyToType;
+import org.apache.camel.component.jms.SimpleJmsMessageListenerContainer;
 import org.springframework.jms.listener.AbstractMessageListenerContainer;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.jms.listener.SimpleMessageListenerContainer;
 import org.springframework.jms.support.destination.DestinationResolver;
 
 /**
@@ -64,13 +67,13 @@ public class QueueReplyManager extends ReplyManagerSupport {
     }
 
     protected void handleReplyMessage(String correlationID, Message message, Session session) {
-        ReplyHandler handler = correlation.get(correlationID);
+        // remove the handler so either the reply or the timeout is processed, but not both
+        ReplyHandler handler = correlation.remove(correlationID);
         if (handler == null && endpoint.isUseMessageIDAsCorrelationID()) {
             handler = waitForProvisionCorrelationToBeUpdated(correlationID, message);
         }
 
         if (handler != null) {
-            correlation.remove(correlationID);
             handler.onReply(correlationID, message, session);
         } else {
             // we could not correlate the received reply message to a matching request and therefore
@@ -119,6 +122,13 @@ public class QueueReplyManager extends ReplyManagerSupport {
             type = ReplyToType.Shared;
         }
 
+        ConsumerType consumerType = endpoint.getConfiguration().getReplyToConsumerType();
+        if (ConsumerType.Simple == consumerType && ReplyToType.Exclusive == type) {
+            return createSimpleListenerContainer();
+        } else if (consumerType != null && ConsumerType.Default != consumerType) {
+            throw new IllegalArgumentException("ReplyToConsumerType " + consumerType + " is not supported for " + type + " reply queues");
+        }
+
         if (ReplyToType.Shared == type) {
             // shared reply to queues support either a fixed or dynamic JMS message selector
             String replyToSelectorName = endpoint.getReplyToDestinationSelectorName();
@@ -227,4 +237,57 @@ public class QueueReplyManager extends ReplyManagerSupport {
         return answer;
     }
 
+    /**
+     * Creates a {@link SimpleMessageListenerContainer} for an exclusive reply queue, which registers a JMS
+     * {@link javax.jms.MessageListener} on each of the reply consumers. The broker can then push (and prefetch) the
+     * reply messages, rather than each consumer polling for one message at a time.
+     */
+    protected AbstractMessageListenerContainer createSimpleListenerContainer() throws Exception {
+        SimpleMessageListenerContainer answer = new SimpleJmsMessageListenerContainer(endpoint);
+
+        DestinationResolver resolver = endpoint.getDestinationResolver();
+        if (resolver == null) {
+            resolver = answer.getDestinationResolver();
+        }
+        answer.setDestinationResolver(new DestinationResolverDelegate(resolver));
+        answer.setDestinationName(endpoint.getReplyTo());
+
+        answer.setAutoStartup(true);
+        answer.setMessageListener(this);
+        answer.setPubSubDomain(false);
+        answer.setSubscriptionDurable(false);
+        answer.setConcurrentConsumers(endpoint.getReplyToConcurrentConsumers());
+        answer.setConnectionFactory(endpoint.getConnectionFactory());
+        String clientId = endpoint.getClientId();
+        if (clientId != null) {
+            clientId += ".CamelReplyManager";
+            answer.setClientId(clientId);
+        }
+
+        // we cannot do request-reply over JMS with transaction
+        answer.setSessionTransacted(false);
+
+        // other optional properties
+        if (endpoint.getExceptionListener() != null) {
+            answer.setExceptionListener(endpoint.getExceptionListener());
+        }
+        if (endpoint.getErrorHandler() != null) {
+            answer.setErrorHandler(endpoint.getErrorHandler());
+        } else {
+            answer.setErrorHandler(new DefaultSpringErrorHandler(endpoint.getCamelContext(), QueueReplyManager.class, endpoint.getErrorHandlerLoggingLevel(), endpoint.isErrorHandlerLogStackTrace()));
+        }
+        // set task executor
+        if (endpoint.getTaskExecutor() != null) {
+            log.debug("Using custom TaskExecutor: {} on listener container: {}", endpoint.getTaskExecutor(), answer);
+            answer.setTaskExecutor(endpoint.getTaskExecutor());
+        }
+
+        // setup a bean name which is used by Spring JMS as the thread name
+        String name = "QueueReplyManager[" + answer.getDestinationName() + "]";
+        answer.setBeanName(name);
+
+        log.debug("Using exclusive queue: {} with {} concurrent consumers as simple reply listener: {}", endpoint.getReplyTo(), endpoint.getReplyToConcurrentConsumers(), answer);
+        return answer;
+    }
+
 }
@@ -244,7 +244,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
             }
 
             // try again
-            answer = correlation.get(correlationID);
+            answer = correlation.remove(correlationID);
             done = answer != null;
 
             if (answer != null) {
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+public class JmsRequestReplyExclusiveReplyToSimpleConsumerTest extends CamelTestSupport {
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            replies.add(template.asyncRequestBody("direct:start", "" + i, String.class));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Hello " + i, replies.get(i).get());
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        try {
+            template.requestBody("activemq:queue:slow?replyTo=slowReply&replyToType=Exclusive&replyToConsumerType=Simple&requestTimeout=500"
+                    + "&requestTimeoutCheckerInterval=100", "World", String.class);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ExchangeTimedOutException.class, e.getCause());
+        }
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("activemq:queue:foo?replyTo=bar&replyToType=Exclusive&replyToConsumerType=Simple&replyToConcurrentConsumers=2");
+
+                from("activemq:queue:foo?concurrentConsumers=5")
+                    .transform(body().prepend("Hello "));
+
+                from("activemq:queue:slow")
+                    .delay(2000)
+                    .transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
@@ -135,6 +135,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer")
+    private int parallelProcessingPoolSize;
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
 
     //Producer Camel specific configuration properties
@@ -761,6 +765,37 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether the consumer should process the records of a partition returned by a poll as a single exchange.
+     * The message body is a <tt>java.util.List</tt> of exchanges, one for each record with the record details
+     * as headers, and the offset is committed after the whole batch has been processed.
+     * The maximum size of a batch is controlled by the option maxPollRecords,
+     * and how long the broker waits to fill a batch by the options fetchMinBytes and fetchWaitMaxMs.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getParallelProcessingPoolSize() {
+        return parallelProcessingPoolSize;
+    }
+
+    /**
+     * Number of threads used to process the records of the partitions returned by a poll in parallel.
+     * The records of each partition are processed in order, so ordering is preserved per partition,
+     * and the offsets are committed when all the records of the poll have been processed.
+     * This allows to use many cores for processing without adding consumers to the consumer group.
+     * This option cannot be used together with allowManualCommit or batching. By default the records are processed
+     * by the thread polling the records.
+     */
+    public void setParallelProcessingPoolSize(int parallelProcessingPoolSize) {
+        this.parallelProcessingPoolSize = parallelProcessingPoolSize;
+    }
+
     public String getBrokers() {
         return brokers;
     }
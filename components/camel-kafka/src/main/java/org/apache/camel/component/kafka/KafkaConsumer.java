@@ -21,15 +21,21 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
@@ -52,6 +58,7 @@ import org.apache.kafka.common.header.Header;
 public class KafkaConsumer extends DefaultConsumer {
 
     protected ExecutorService executor;
+    protected ExecutorService processingExecutor;
     private final KafkaEndpoint endpoint;
     private final Processor processor;
     private final Long pollTimeoutMs;
@@ -120,7 +127,19 @@ public class KafkaConsumer extends DefaultConsumer {
             }
         }
 
+        if (endpoint.getConfiguration().getParallelProcessingPoolSize() > 0) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option allowManualCommit cannot be used when parallelProcessingPoolSize is configured");
+            }
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException("The option batching cannot be used when parallelProcessingPoolSize is configured");
+            }
+        }
+
         executor = endpoint.createExecutor();
+        if (endpoint.getConfiguration().getParallelProcessingPoolSize() > 0) {
+            processingExecutor = endpoint.createProcessingExecutor();
+        }
 
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
@@ -155,6 +174,11 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        if (processingExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(processingExecutor);
+            processingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository repo = endpoint.getConfiguration().getOffsetRepository();
             log.debug("Stopping OffsetRepository: {}", repo);
@@ -289,64 +313,23 @@ public class KafkaConsumer extends DefaultConsumer {
                     log.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
                     ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
 
-                    for (TopicPartition partition : allRecords.partitions()) {
-
-                        long partitionLastOffset = -1;
-
-                        Iterator<ConsumerRecord<Object, Object>> recordIterator = allRecords.records(partition).iterator();
-                        if (!breakOnErrorHit && recordIterator.hasNext()) {
-                            ConsumerRecord<Object, Object> record;
-
-                            while (!breakOnErrorHit && recordIterator.hasNext()) {
-                                record = recordIterator.next();
-                                if (log.isTraceEnabled()) {
-                                    log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(),
-                                            record.value());
-                                }
-                                Exchange exchange = endpoint.createKafkaExchange(record);
-
-                                propagateHeaders(record, exchange, endpoint.getConfiguration());
-
-                                // if not auto commit then we have additional information on the exchange
-                                if (!isAutoCommitEnabled()) {
-                                    exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, !recordIterator.hasNext());
-                                }
-                                if (endpoint.getConfiguration().isAllowManualCommit()) {
-                                    // allow Camel users to access the Kafka consumer API to be able to do for example manual commits
-                                    KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory().newInstance(exchange, consumer, topicName, threadId,
-                                            offsetRepository, partition, record.offset());
-                                    exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
-                                }
-
-                                try {
-                                    processor.process(exchange);
-                                } catch (Exception e) {
-                                    exchange.setException(e);
-                                }
-
-                                if (exchange.getException() != null) {
-                                    // processing failed due to an unhandled exception, what should we do
-                                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
-                                        // we are failing and we should break out
-                                        log.warn("Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
-                                                exchange, topicName, partitionLastOffset);
-                                        // force commit so we resume on next poll where we failed
-                                        commitOffset(offsetRepository, partition, partitionLastOffset, true);
-                                        // continue to next partition
-                                        breakOnErrorHit = true;
-                                    } else {
-                                        // will handle/log the exception and then continue to next
-                                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
-                                    }
-                                } else {
-                                    // record was success so remember its offset
-                                    partitionLastOffset = record.offset();
-                                }
+                    if (endpoint.getConfiguration().isBatching()) {
+                        for (TopicPartition partition : allRecords.partitions()) {
+                            if (!breakOnErrorHit) {
+                                breakOnErrorHit = processBatch(allRecords.records(partition), partition, offsetRepository);
                             }
-
+                        }
+                    } else if (processingExecutor != null) {
+                        breakOnErrorHit = processPartitionsInParallel(allRecords, offsetRepository);
+                    } else {
+                        for (TopicPartition partition : allRecords.partitions()) {
                             if (!breakOnErrorHit) {
-                                // all records processed from partition so commit them
-                                commitOffset(offsetRepository, partition, partitionLastOffset, false);
+                                AtomicBoolean partitionBreakOnErrorHit = new AtomicBoolean();
+                                long partitionLastOffset = processRecords(allRecords.records(partition), partition, offsetRepository, partitionBreakOnErrorHit);
+                                breakOnErrorHit = partitionBreakOnErrorHit.get();
+                                // commit the records processed from partition, and force commit if we break out
+                                // so we resume on next poll where we failed
+                                commitOffset(offsetRepository, partition, partitionLastOffset, breakOnErrorHit);
                             }
                         }
                     }
@@ -396,6 +379,174 @@ public class KafkaConsumer extends DefaultConsumer {
             return reConnect;
         }
 
+        /**
+         * Processes the records of the partitions returned by a poll in parallel, where the records of each partition
+         * are processed in order by a thread of the processing pool. The offsets are committed by this thread, as the
+         * Kafka consumer is not thread safe, when all the partitions have been processed.
+         *
+         * @return <tt>true</tt> if the processing failed and the consumer should break out and re-connect
+         */
+        private boolean processPartitionsInParallel(ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            AtomicBoolean breakOnErrorHit = new AtomicBoolean();
+            Map<TopicPartition, Future<Long>> partitionLastOffsets = new LinkedHashMap<>();
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                partitionLastOffsets.put(partition, processingExecutor.submit(() -> processRecords(records, partition, offsetRepository, breakOnErrorHit)));
+            }
+
+            boolean interrupted = false;
+            for (Map.Entry<TopicPartition, Future<Long>> entry : partitionLastOffsets.entrySet()) {
+                if (interrupted && !entry.getValue().isDone()) {
+                    // the partition is still being processed so its offset is not known yet
+                    continue;
+                }
+                long partitionLastOffset;
+                try {
+                    partitionLastOffset = entry.getValue().get();
+                } catch (InterruptedException e) {
+                    // still commit the partitions which have been processed, so they are not consumed again
+                    log.debug("Interrupted while waiting for records of {} from topic {} to be processed", threadId, topicName);
+                    interrupted = true;
+                    continue;
+                } catch (ExecutionException e) {
+                    getExceptionHandler().handleException("Error during processing", e.getCause());
+                    breakOnErrorHit.set(true);
+                    continue;
+                }
+                // commit the records processed from partition, and force commit if we break out
+                // so we resume on next poll where we failed
+                commitOffset(offsetRepository, entry.getKey(), partitionLastOffset, breakOnErrorHit.get());
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return breakOnErrorHit.get();
+        }
+
+        /**
+         * Processes the records of the partition in order, one exchange per record.
+         *
+         * @return the offset of the last record which was processed successfully, or <tt>-1</tt> if none
+         */
+        private long processRecords(List<ConsumerRecord<Object, Object>> records, TopicPartition partition, StateRepository<String, String> offsetRepository,
+                                    AtomicBoolean breakOnErrorHit) {
+            long partitionLastOffset = -1;
+
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = records.iterator();
+            while (!breakOnErrorHit.get() && recordIterator.hasNext()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                if (log.isTraceEnabled()) {
+                    log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(),
+                            record.value());
+                }
+                Exchange exchange = endpoint.createKafkaExchange(record);
+
+                propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+                // if not auto commit then we have additional information on the exchange
+                if (!isAutoCommitEnabled()) {
+                    exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, !recordIterator.hasNext());
+                }
+                if (endpoint.getConfiguration().isAllowManualCommit()) {
+                    // allow Camel users to access the Kafka consumer API to be able to do for example manual commits
+                    KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory().newInstance(exchange, consumer, topicName, threadId,
+                            offsetRepository, partition, record.offset());
+                    exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+                }
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    // processing failed due to an unhandled exception, what should we do
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        // we are failing and we should break out
+                        log.warn("Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                                exchange, topicName, partitionLastOffset);
+                        breakOnErrorHit.set(true);
+                    } else {
+                        // will handle/log the exception and then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                } else {
+                    // record was success so remember its offset
+                    partitionLastOffset = record.offset();
+                }
+            }
+
+            return partitionLastOffset;
+        }
+
+        /**
+         * Processes the records of the partition as a single exchange with a list of exchanges as body.
+         *
+         * @return <tt>true</tt> if the processing failed and the consumer should break out and re-connect
+         */
+        private boolean processBatch(List<ConsumerRecord<Object, Object>> records, TopicPartition partition, StateRepository<String, String> offsetRepository) {
+            if (records.isEmpty()) {
+                return false;
+            }
+
+            List<Exchange> exchanges = new ArrayList<>(records.size());
+            for (ConsumerRecord<Object, Object> record : records) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(), record.value());
+                }
+                Exchange exchange = endpoint.createKafkaExchange(record);
+                propagateHeaders(record, exchange, endpoint.getConfiguration());
+                exchanges.add(exchange);
+            }
+            long batchLastOffset = records.get(records.size() - 1).offset();
+
+            Exchange exchange = endpoint.createExchange();
+            Message message = exchange.getIn();
+            message.setHeader(KafkaConstants.PARTITION, partition.partition());
+            message.setHeader(KafkaConstants.TOPIC, partition.topic());
+            message.setHeader(KafkaConstants.OFFSET, batchLastOffset);
+            message.setBody(exchanges);
+
+            // if not auto commit then we have additional information on the exchange
+            if (!isAutoCommitEnabled()) {
+                message.setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, true);
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                // allow Camel users to access the Kafka consumer API to be able to do for example manual commits
+                KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory().newInstance(exchange, consumer, topicName, threadId,
+                        offsetRepository, partition, batchLastOffset);
+                message.setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+            }
+
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.getException() != null) {
+                // processing failed due to an unhandled exception, what should we do
+                if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                    // we are failing and we should break out
+                    long partitionLastOffset = records.get(0).offset() - 1;
+                    log.warn("Error during processing batch of {} records {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                            exchanges.size(), exchange, topicName, partitionLastOffset);
+                    // force commit so we resume on next poll from the first record of the batch
+                    commitOffset(offsetRepository, partition, partitionLastOffset, true);
+                    return true;
+                } else {
+                    // will handle/log the exception and then continue to next
+                    getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                }
+            }
+
+            // all records processed from partition so commit them
+            commitOffset(offsetRepository, partition, batchLastOffset, false);
+            return false;
+        }
+
         private void commitOffset(StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset, boolean forceCommit) {
             if (partitionLastOffset != -1) {
                 if (!endpoint.getConfiguration().isAllowManualCommit() && offsetRepository != null) {
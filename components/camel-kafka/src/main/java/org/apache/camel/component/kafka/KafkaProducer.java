@@ -28,12 +28,18 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.DefaultAsyncProducer;
@@ -46,6 +52,7 @@ import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.utils.Bytes;
 
+@ManagedResource(description = "Kafka Producer")
 public class KafkaProducer extends DefaultAsyncProducer {
 
     @SuppressWarnings("rawtypes")
@@ -53,6 +60,11 @@ public class KafkaProducer extends DefaultAsyncProducer {
     private final KafkaEndpoint endpoint;
     private ExecutorService workerPool;
     private boolean shutdownWorkerPool;
+    private final AtomicInteger inFlightRecords = new AtomicInteger();
+    // statistics for the topic configured on the endpoint, and aggregated for the topics set by message headers
+    // which are not tracked per topic as any number of topics can be used
+    private final SendStatistics topicStatistics = new SendStatistics();
+    private final SendStatistics otherTopicsStatistics = new SendStatistics();
 
     public KafkaProducer(KafkaEndpoint endpoint) {
         super(endpoint);
@@ -97,6 +109,57 @@ public class KafkaProducer extends DefaultAsyncProducer {
         this.workerPool = workerPool;
     }
 
+    @ManagedAttribute(description = "Number of records which has been sent but not yet acknowledged by the Kafka brokers")
+    public int getInFlightRecords() {
+        return inFlightRecords.get();
+    }
+
+    @ManagedAttribute(description = "Number of records which has been sent successfully")
+    public long getSentRecords() {
+        return topicStatistics.sent.sum() + otherTopicsStatistics.sent.sum();
+    }
+
+    @ManagedAttribute(description = "Number of records which failed to be sent")
+    public long getFailedRecords() {
+        return topicStatistics.failed.sum() + otherTopicsStatistics.failed.sum();
+    }
+
+    @ManagedAttribute(description = "Number of records which has been sent successfully to the topic configured on the endpoint")
+    public long getTopicSentRecords() {
+        return topicStatistics.sent.sum();
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from sending a record to the topic configured on the endpoint until it was acknowledged")
+    public long getTopicMeanSendLatency() {
+        return topicStatistics.meanLatencyMillis();
+    }
+
+    @ManagedAttribute(description = "Maximum time in millis from sending a record to the topic configured on the endpoint until it was acknowledged")
+    public long getTopicMaxSendLatency() {
+        return topicStatistics.maxLatencyMillis();
+    }
+
+    @ManagedAttribute(description = "Number of records which has been sent successfully to other topics set by message headers")
+    public long getOtherTopicsSentRecords() {
+        return otherTopicsStatistics.sent.sum();
+    }
+
+    @ManagedAttribute(description = "Mean time in millis from sending a record to other topics set by message headers until it was acknowledged")
+    public long getOtherTopicsMeanSendLatency() {
+        return otherTopicsStatistics.meanLatencyMillis();
+    }
+
+    @ManagedAttribute(description = "Maximum time in millis from sending a record to other topics set by message headers until it was acknowledged")
+    public long getOtherTopicsMaxSendLatency() {
+        return otherTopicsStatistics.maxLatencyMillis();
+    }
+
+    @ManagedOperation(description = "Reset the send statistics")
+    public void resetStatistics() {
+        topicStatistics.reset();
+        otherTopicsStatistics.reset();
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     protected void doStart() throws Exception {
@@ -271,16 +334,29 @@ public class KafkaProducer extends DefaultAsyncProducer {
             }
         }
 
-        while (c.hasNext()) {
-            ProducerRecord rec = c.next();
-            if (log.isDebugEnabled()) {
-                log.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
+        List<String> topics = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            while (c.hasNext()) {
+                ProducerRecord rec = c.next();
+                if (log.isDebugEnabled()) {
+                    log.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
+                }
+                inFlightRecords.incrementAndGet();
+                topics.add(rec.topic());
+                futures.add(kafkaProducer.send(rec));
             }
-            futures.add(kafkaProducer.send(rec));
-        }
-        for (Future<RecordMetadata> f : futures) {
-            //wait for them all to be sent
-            recordMetadatas.add(f.get());
+            for (Future<RecordMetadata> f : futures) {
+                //wait for them all to be sent
+                recordMetadatas.add(f.get());
+                onSendCompleted(topics.get(recordMetadatas.size() - 1), start, null);
+            }
+        } catch (Exception e) {
+            // the records which has not been acknowledged are failed
+            for (int i = recordMetadatas.size(); i < topics.size(); i++) {
+                onSendCompleted(topics.get(i), start, e);
+            }
+            throw e;
         }
     }
 
@@ -296,7 +372,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
                 if (log.isDebugEnabled()) {
                     log.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
                 }
-                kafkaProducer.send(rec, cb);
+                send(rec, cb);
             }
             return cb.allSent();
         } catch (Exception ex) {
@@ -306,6 +382,36 @@ public class KafkaProducer extends DefaultAsyncProducer {
         return true;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void send(ProducerRecord rec, Callback callback) {
+        final String topic = rec.topic();
+        final long start = System.nanoTime();
+        inFlightRecords.incrementAndGet();
+        try {
+            kafkaProducer.send(rec, (recordMetadata, e) -> {
+                onSendCompleted(topic, start, e);
+                callback.onCompletion(recordMetadata, e);
+            });
+        } catch (RuntimeException e) {
+            // the callback is not invoked when the record could not be sent at all
+            onSendCompleted(topic, start, e);
+            throw e;
+        }
+    }
+
+    private void onSendCompleted(String topic, long start, Exception e) {
+        inFlightRecords.decrementAndGet();
+        long latency = System.nanoTime() - start;
+        SendStatistics statistics = topic.equals(endpoint.getConfiguration().getTopic()) ? topicStatistics : otherTopicsStatistics;
+        if (e != null) {
+            statistics.failed.increment();
+        } else {
+            statistics.sent.increment();
+        }
+        statistics.totalLatency.add(latency);
+        statistics.maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
     /**
      * Attempts to convert the object to the same type as the serialized class specified
      */
@@ -329,6 +435,29 @@ public class KafkaProducer extends DefaultAsyncProducer {
         return answer != null ? answer : object;
     }
 
+    private static final class SendStatistics {
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        long meanLatencyMillis() {
+            long count = sent.sum() + failed.sum();
+            return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalLatency.sum() / count) : 0;
+        }
+
+        long maxLatencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxLatency.get());
+        }
+
+        void reset() {
+            sent.reset();
+            failed.reset();
+            totalLatency.reset();
+            maxLatency.set(0);
+        }
+    }
+
     private final class KafkaProducerCallBack implements Callback {
 
         private final Exchange exchange;
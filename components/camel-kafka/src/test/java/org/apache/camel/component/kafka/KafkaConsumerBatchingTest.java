@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KafkaConsumerBatchingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "batching";
+
+    @EndpointInject(uri = "kafka:" + TOPIC
+            + "?groupId=group1&autoOffsetReset=earliest&batching=true")
+    private Endpoint from;
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint to;
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Before
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo").noAutoStartup().to(to);
+            }
+        };
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void kafkaMessagesAreConsumedAsBatch() throws Exception {
+        for (int k = 0; k < 5; k++) {
+            String msg = "message-" + k;
+            ProducerRecord<String, String> data = new ProducerRecord<>(TOPIC, "1", msg);
+            producer.send(data);
+        }
+        producer.flush();
+
+        to.expectedMessageCount(1);
+        to.expectedHeaderReceived(KafkaConstants.TOPIC, TOPIC);
+        to.expectedHeaderReceived(KafkaConstants.OFFSET, 4L);
+
+        context.getRouteController().startRoute("foo");
+
+        to.assertIsSatisfied(5000);
+
+        List<Exchange> records = to.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(5, records.size());
+        for (int k = 0; k < 5; k++) {
+            assertEquals("message-" + k, records.get(k).getIn().getBody());
+            assertEquals((long) k, records.get(k).getIn().getHeader(KafkaConstants.OFFSET));
+            assertEquals("1", records.get(k).getIn().getHeader(KafkaConstants.KEY));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KafkaConsumerParallelProcessingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "parallel";
+
+    @EndpointInject(uri = "kafka:" + TOPIC
+            + "?groupId=parallelGroup&autoOffsetReset=earliest&parallelProcessingPoolSize=3")
+    private Endpoint from;
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint to;
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Before
+    public void before() throws Exception {
+        Properties props = getDefaultProperties();
+        try (AdminClient admin = AdminClient.create(props)) {
+            admin.createTopics(Collections.singletonList(new NewTopic(TOPIC, 3, (short) 1))).all().get();
+        }
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo").noAutoStartup()
+                    .process(e -> e.getIn().setHeader("thread", Thread.currentThread().getName()))
+                    .to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaPartitionsAreProcessedInParallel() throws Exception {
+        for (int k = 0; k < 30; k++) {
+            int partition = k % 3;
+            ProducerRecord<String, String> data = new ProducerRecord<>(TOPIC, partition, "" + partition, "message-" + k);
+            producer.send(data);
+        }
+        producer.flush();
+
+        to.expectedMessageCount(30);
+
+        context.getRouteController().startRoute("foo");
+
+        to.assertIsSatisfied(10000);
+
+        // the records of each partition are received in order
+        Map<Integer, List<String>> bodies = new HashMap<>();
+        for (Exchange exchange : to.getReceivedExchanges()) {
+            int partition = exchange.getIn().getHeader(KafkaConstants.PARTITION, Integer.class);
+            bodies.computeIfAbsent(partition, p -> new ArrayList<>()).add(exchange.getIn().getBody(String.class));
+
+            String thread = exchange.getIn().getHeader("thread", String.class);
+            assertTrue("Should be processed by the pool: " + thread, thread.contains("KafkaConsumerProcessing"));
+        }
+        assertEquals(3, bodies.size());
+        for (Map.Entry<Integer, List<String>> entry : bodies.entrySet()) {
+            List<String> expected = new ArrayList<>();
+            for (int k = entry.getKey(); k < 30; k += 3) {
+                expected.add("message-" + k);
+            }
+            assertEquals(expected, entry.getValue());
+        }
+    }
+}
@@ -44,4 +44,14 @@ public class KafkaConsumerTest {
         when(endpoint.getConfiguration().getBrokers()).thenReturn("localhost:2181");
         new KafkaConsumer(endpoint, processor);
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelProcessingCannotBeUsedWithBatching() throws Exception {
+        when(endpoint.getComponent()).thenReturn(component);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(endpoint.getConfiguration().getBrokers()).thenReturn("localhost:2181");
+        when(endpoint.getConfiguration().getParallelProcessingPoolSize()).thenReturn(2);
+        when(endpoint.getConfiguration().isBatching()).thenReturn(true);
+        new KafkaConsumer(endpoint, processor).doStart();
+    }
 }
@@ -159,6 +159,73 @@ public class KafkaProducerTest {
         assertRecordMetadataExists();
     }
 
+    @Test
+    public void processAsyncUpdatesSendStatistics() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+
+        producer.process(exchange, callback);
+        assertEquals(1, producer.getInFlightRecords());
+        assertEquals(0, producer.getSentRecords());
+
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), callBackCaptor.capture());
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 0, 0, new Long(0), 0, 0), null);
+
+        assertEquals(0, producer.getInFlightRecords());
+        assertEquals(1, producer.getSentRecords());
+        assertEquals(1, producer.getTopicSentRecords());
+        assertEquals(0, producer.getOtherTopicsSentRecords());
+        assertEquals(0, producer.getFailedRecords());
+        assertTrue(producer.getTopicMaxSendLatency() >= producer.getTopicMeanSendLatency());
+    }
+
+    @Test
+    public void processAsyncAggregatesSendStatisticsForTopicHeaders() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+
+        for (int i = 0; i < 3; i++) {
+            in.setHeader(KafkaConstants.TOPIC, "anotherTopic" + i);
+            producer.process(exchange, callback);
+        }
+        Mockito.verify(producer.getKafkaProducer(), Mockito.times(3)).send(any(ProducerRecord.class), callBackCaptor.capture());
+        for (Callback kafkaCallback : callBackCaptor.getAllValues()) {
+            kafkaCallback.onCompletion(new RecordMetadata(null, 0, 0, 0, new Long(0), 0, 0), null);
+        }
+
+        // the topics from the header are not tracked one by one
+        assertEquals(3, producer.getSentRecords());
+        assertEquals(0, producer.getTopicSentRecords());
+        assertEquals(3, producer.getOtherTopicsSentRecords());
+
+        producer.resetStatistics();
+        assertEquals(0, producer.getSentRecords());
+        assertEquals(0, producer.getOtherTopicsMaxSendLatency());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked"})
+    public void processUpdatesFailedStatistics() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        Mockito.when(kp.send(any(ProducerRecord.class))).thenThrow(new ApiException());
+        Mockito.when(exchange.getIn()).thenReturn(in);
+
+        try {
+            producer.process(exchange);
+        } catch (ApiException e) {
+            // expected
+        }
+
+        assertEquals(0, producer.getInFlightRecords());
+        assertEquals(0, producer.getSentRecords());
+        assertEquals(1, producer.getFailedRecords());
+    }
+
     @Test
     public void processSendsMessageWithTopicHeaderAndNoTopicInEndPoint() throws Exception {
         endpoint.getConfiguration().setTopic(null);
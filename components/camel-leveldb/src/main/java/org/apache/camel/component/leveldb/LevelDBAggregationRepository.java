@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -45,6 +46,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     private String repositoryName;
     private boolean sync;
     private boolean returnOldExchange;
+    private ExchangeCodec exchangeCodec;
     private LevelDBCamelCodec codec = new LevelDBCamelCodec();
     private long recoveryInterval = 5000;
     private boolean useRecovery = true;
@@ -386,6 +388,19 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.persistentFileName = persistentFileName;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * Sets the codec used to store the exchanges, such as {@link org.apache.camel.support.BinaryExchangeCodec}.
+     * By default the exchanges are stored using Java serialization.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+        this.codec = new LevelDBCamelCodec(exchangeCodec);
+    }
+
     public boolean isAllowSerializedHeaders() {
         return allowSerializedHeaders;
     }
@@ -16,24 +16,36 @@
  */
 package org.apache.camel.component.leveldb;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
-import org.apache.camel.support.DefaultExchange;
-import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeCodec;
+import org.apache.camel.support.SerializationExchangeCodec;
 import org.fusesource.hawtbuf.Buffer;
 import org.fusesource.hawtbuf.DataByteArrayInputStream;
 import org.fusesource.hawtbuf.DataByteArrayOutputStream;
 import org.fusesource.hawtbuf.codec.Codec;
-import org.fusesource.hawtbuf.codec.ObjectCodec;
 import org.fusesource.hawtbuf.codec.StringCodec;
 
 public final class LevelDBCamelCodec {
 
     private Codec<String> keyCodec = new StringCodec();
-    private Codec<DefaultExchangeHolder> exchangeCodec = new ObjectCodec<>();
+    private final SerializationExchangeCodec serializationCodec = new SerializationExchangeCodec();
+    private final ExchangeCodec exchangeCodec;
+
+    public LevelDBCamelCodec() {
+        this(null);
+    }
+
+    /**
+     * Creates a codec which stores the exchanges using the given codec, or using Java serialization if <tt>null</tt>.
+     * Exchanges which has been stored using Java serialization can always be read.
+     */
+    public LevelDBCamelCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
 
     public Buffer marshallKey(String key) throws IOException {
         DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
@@ -48,40 +60,35 @@ public final class LevelDBCamelCodec {
     }
 
     public Buffer marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
-        DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
-        // use DefaultExchangeHolder to marshal to a serialized object
-        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
-        // add the aggregated size and timeout property as the only properties we want to retain
-        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE, exchange.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
-        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT, exchange.getProperty(Exchange.AGGREGATED_TIMEOUT, Long.class));
-        // add the aggregated completed by property to retain
-        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY, exchange.getProperty(Exchange.AGGREGATED_COMPLETED_BY, String.class));
-        // add the aggregated correlation key property to retain
-        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY, exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class));
-        // and a guard property if using the flexible toolbox aggregator
-        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD, exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
-        // persist the from endpoint as well
-        if (exchange.getFromEndpoint() != null) {
-            DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
+        if (exchangeCodec != null) {
+            return new Buffer(exchangeCodec.marshallExchange(camelContext, exchange, false, allowSerializedHeaders));
         }
-        exchangeCodec.encode(pe, baos);
+        // use DefaultExchangeHolder to marshal to a serialized object prefixed with its length
+        byte[] data = serializationCodec.marshallExchange(camelContext, exchange, false, allowSerializedHeaders);
+        DataByteArrayOutputStream baos = new DataByteArrayOutputStream(data.length + 4);
+        baos.writeInt(data.length);
+        baos.write(data);
         return baos.toBuffer();
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, Buffer buffer) throws IOException {
-        DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
-        DefaultExchangeHolder pe = exchangeCodec.decode(bais);
-        Exchange answer = new DefaultExchange(camelContext);
-        DefaultExchangeHolder.unmarshal(answer, pe);
-        // restore the from endpoint
-        String fromEndpointUri = (String) answer.removeProperty("CamelAggregatedFromEndpoint");
-        if (fromEndpointUri != null) {
-            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
-            if (fromEndpoint != null) {
-                answer.setFromEndpoint(fromEndpoint);
+        try {
+            if (exchangeCodec == null || isSerialized(buffer)) {
+                DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
+                int length = bais.readInt();
+                return serializationCodec.unmarshallExchange(camelContext, new ByteArrayInputStream(buffer.data, buffer.offset + 4, length));
             }
+            return exchangeCodec.unmarshallExchange(camelContext, buffer.toByteArray());
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e.getMessage(), e);
         }
-        return answer;
+    }
+
+    /**
+     * Whether the exchange has been stored using Java serialization, which is prefixed with its length
+     */
+    private static boolean isSerialized(Buffer buffer) {
+        return buffer.length > 6 && buffer.data[buffer.offset + 4] == (byte) 0xAC && buffer.data[buffer.offset + 5] == (byte) 0xED;
     }
 
 }
@@ -19,6 +19,7 @@ import java.io.File;
 import java.util.Date;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.test.junit4.CamelTestSupport;
 import org.junit.After;
@@ -91,4 +92,31 @@ public class LevelDBExchangeSerializationTest extends CamelTestSupport {
         assertSame(context, actual.getContext());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testBinaryCodecExchangeSerialization() {
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository();
+        repo.setLevelDBFile(levelDBFile);
+        repo.setRepositoryName("repo1");
+
+        // an existing exchange stored with java serialization can be read by the binary codec
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Claus");
+        repo.add(context, "foo", exchange);
+
+        repo.setExchangeCodec(new BinaryExchangeCodec());
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Claus", actual.getIn().getHeader("name"));
+
+        exchange.getIn().setBody("Bye World");
+        exchange.getIn().setHeader("number", 123);
+        repo.add(context, "foo", exchange);
+
+        actual = repo.get(context, "foo");
+        assertEquals("Bye World", actual.getIn().getBody());
+        assertEquals("Claus", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("number"));
+        assertSame(context, actual.getContext());
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A {@link NettyCamelStateCorrelationManager} which correlates the request and reply messages by evaluating an
+ * {@link Expression}, such as a correlation id which is part of the message body.
+ * <p/>
+ * The request expression is evaluated on the exchange to be sent, and the response expression on an exchange with
+ * the reply message as body. If no response expression has been configured then the request expression is used.
+ * <p/>
+ * This allows many concurrent request/reply messages on the same channel, by turning off the producer pool. The
+ * <tt>producerSharedChannels</tt> option can then be used to spread the messages over a few long-lived channels.
+ */
+public class ExpressionCorrelationManager extends TimeoutCorrelationManagerSupport {
+
+    private Expression requestCorrelationExpression;
+    private Expression responseCorrelationExpression;
+
+    public ExpressionCorrelationManager() {
+    }
+
+    public ExpressionCorrelationManager(Expression correlationExpression) {
+        this.requestCorrelationExpression = correlationExpression;
+    }
+
+    public ExpressionCorrelationManager(Expression requestCorrelationExpression, Expression responseCorrelationExpression) {
+        this.requestCorrelationExpression = requestCorrelationExpression;
+        this.responseCorrelationExpression = responseCorrelationExpression;
+    }
+
+    public Expression getRequestCorrelationExpression() {
+        return requestCorrelationExpression;
+    }
+
+    /**
+     * The expression to extract the correlation id from the request exchange.
+     */
+    public void setRequestCorrelationExpression(Expression requestCorrelationExpression) {
+        this.requestCorrelationExpression = requestCorrelationExpression;
+    }
+
+    public Expression getResponseCorrelationExpression() {
+        return responseCorrelationExpression;
+    }
+
+    /**
+     * The expression to extract the correlation id from the reply message, which is the body of the
+     * exchange the expression is evaluated on. The request expression is used if not configured.
+     */
+    public void setResponseCorrelationExpression(Expression responseCorrelationExpression) {
+        this.responseCorrelationExpression = responseCorrelationExpression;
+    }
+
+    @Override
+    protected String getRequestCorrelationId(Exchange exchange) {
+        return requestCorrelationExpression.evaluate(exchange, String.class);
+    }
+
+    @Override
+    public String getRequestCorrelationId(Object request) {
+        return evaluate(requestCorrelationExpression, request);
+    }
+
+    @Override
+    public String getResponseCorrelationId(Object response) {
+        Expression expression = responseCorrelationExpression != null ? responseCorrelationExpression : requestCorrelationExpression;
+        return evaluate(expression, response);
+    }
+
+    private String evaluate(Expression expression, Object body) {
+        Exchange exchange = new DefaultExchange(getCamelContext());
+        exchange.getIn().setBody(body);
+        return expression.evaluate(exchange, String.class);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(requestCorrelationExpression, "requestCorrelationExpression", this);
+        super.doStart();
+    }
+}
@@ -102,12 +102,16 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     private long producerPoolMinEvictableIdle = 5 * 60 * 1000L;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
+    @UriParam(label = "producer,advanced", defaultValue = "1")
+    private int producerSharedChannels = 1;
     @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
     private boolean clientMode;
     @UriParam(label = "producer,advanced")
     private boolean useByteBuf;
+    @UriParam(label = "consumer,advanced")
+    private boolean zeroCopy;
     @UriParam(label = "advanced")
     private boolean udpByteArrayCodec;
     @UriParam(label = "common")
@@ -221,7 +225,10 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
                     encoders.add(ChannelHandlerFactories.newStringEncoder(charset, protocol));
                     ByteBuf[] delimiters = delimiter == TextLineDelimiter.LINE ? Delimiters.lineDelimiter() : Delimiters.nulDelimiter();
                     decoders.add(ChannelHandlerFactories.newDelimiterBasedFrameDecoder(decoderMaxLineLength, delimiters, protocol));
-                    decoders.add(ChannelHandlerFactories.newStringDecoder(charset, protocol));
+                    // the frames are slices of the received buffer, which are kept as-is when using zero copy
+                    if (!isZeroCopy() || !isTcp()) {
+                        decoders.add(ChannelHandlerFactories.newStringDecoder(charset, protocol));
+                    }
 
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Using textline encoders and decoders with charset: {}, delimiter: {} and decoderMaxLineLength: {}",
@@ -615,6 +622,21 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public int getProducerSharedChannels() {
+        return producerSharedChannels;
+    }
+
+    /**
+     * The number of channels (aka connections) the producer shares between all its messages when the producer pool is disabled.
+     * The messages are sent over the channels in a round robin fashion, and each channel is used for many concurrent messages,
+     * which requires a correlation manager when doing request/reply, such as the {@link ExpressionCorrelationManager}.
+     * <p/>
+     * See also the <tt>producerPoolEnabled</tt> and <tt>correlationManager</tt> options for more details.
+     */
+    public void setProducerSharedChannels(int producerSharedChannels) {
+        this.producerSharedChannels = producerSharedChannels;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
@@ -649,6 +671,22 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.useByteBuf = useByteBuf;
     }
 
+    public boolean isZeroCopy() {
+        return zeroCopy;
+    }
+
+    /**
+     * For TCP only. If enabled then the consumer keeps a received {@link ByteBuf} as the message body, instead of copying it into
+     * a String or byte array on the event loop. The buffer is retained until the {@link Exchange} is done, and the type converters
+     * read directly from it, so the body must be converted if it is needed after the exchange is done.
+     * <p/>
+     * When using textline then only the frames are decoded, and the lines are kept as {@link ByteBuf} bodies.
+     * This option is not supported by the producer.
+     */
+    public void setZeroCopy(boolean zeroCopy) {
+        this.zeroCopy = zeroCopy;
+    }
+
     public boolean isUdpByteArrayCodec() {
         return udpByteArrayCodec;
     }
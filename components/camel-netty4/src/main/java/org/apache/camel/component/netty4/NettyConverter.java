@@ -21,6 +21,8 @@ import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
@@ -34,9 +36,13 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.support.ExchangeHelper;
 
 /**
  * A set of converter methods for working with Netty types
+ * <p/>
+ * The converters read the readable bytes of the {@link ByteBuf} in place, without changing its reader index,
+ * so a buffer which is kept as message body can be converted more than once.
  */
 @Converter
 public final class NettyConverter {
@@ -47,33 +53,35 @@ public final class NettyConverter {
 
     @Converter
     public static byte[] toByteArray(ByteBuf buffer, Exchange exchange) {
-        if (buffer.hasArray()) {
+        int length = buffer.readableBytes();
+        // only use the backing array as-is if it holds exactly the readable bytes,
+        // as a pooled or sliced buffer shares its array with other buffers
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.readerIndex() == 0 && buffer.array().length == length) {
             return buffer.array();
         }
-        byte[] bytes = new byte[buffer.readableBytes()];
-        int readerIndex = buffer.readerIndex();
-        buffer.retain();
-        try {
-            buffer.getBytes(readerIndex, bytes);
-        } finally {
-            buffer.release();
-        }
+        byte[] bytes = new byte[length];
+        buffer.getBytes(buffer.readerIndex(), bytes);
         return bytes;
     }
 
     @Converter
     public static String toString(ByteBuf buffer, Exchange exchange) throws UnsupportedEncodingException {
-        byte[] bytes = toByteArray(buffer, exchange);
-        // use type converter as it can handle encoding set on the Exchange
-        if (exchange != null) {
-            return exchange.getContext().getTypeConverter().convertTo(String.class, exchange, bytes);
-        }
-        return new String(bytes, "UTF-8");
+        // decode the readable bytes directly, which can handle encoding set on the Exchange
+        String charsetName = exchange != null ? ExchangeHelper.getCharsetName(exchange) : "UTF-8";
+        return buffer.toString(Charset.forName(charsetName));
     }
 
     @Converter
     public static InputStream toInputStream(ByteBuf buffer, Exchange exchange) {
-        return new ByteBufInputStream(buffer);
+        return new ByteBufInputStream(buffer.duplicate());
+    }
+
+    /**
+     * Returns a {@link ByteBuffer} view of the readable bytes, which shares its content with the buffer.
+     */
+    @Converter
+    public static ByteBuffer toNioByteBuffer(ByteBuf buffer, Exchange exchange) {
+        return buffer.nioBuffer();
     }
 
     @Converter
@@ -60,6 +60,10 @@ public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (configuration.isZeroCopy()) {
+            // the codecs are shared with the consumer, and a producer releases the received buffers of the replies
+            throw new IllegalArgumentException("The option zeroCopy is only supported by the consumer: " + getEndpointUri());
+        }
         Producer answer = new NettyProducer(this, configuration);
         if (isSynchronous()) {
             return new SynchronousDelegateProducer(answer);
@@ -136,9 +136,9 @@ public class NettyProducer extends DefaultAsyncProducer {
                         new Object[]{config.maxActive, config.minIdle, config.maxIdle, config.minEvictableIdleTimeMillis, pool});
             }
         } else {
-            pool = new SharedSingletonObjectPool<>(new NettyProducerPoolableObjectFactory());
+            pool = new SharedRoundRobinObjectPool<>(new NettyProducerPoolableObjectFactory(), configuration.getProducerSharedChannels());
             if (log.isDebugEnabled()) {
-                log.debug("Created NettyProducer shared singleton pool -> {}", pool);
+                log.debug("Created NettyProducer shared pool[channels={}] -> {}", configuration.getProducerSharedChannels(), pool);
             }
         }
 
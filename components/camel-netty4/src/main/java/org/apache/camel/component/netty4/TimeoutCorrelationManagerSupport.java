@@ -16,21 +16,23 @@
  */
 package org.apache.camel.component.netty4;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeTimedOutException;
 import org.apache.camel.LoggingLevel;
-import org.apache.camel.TimeoutMap;
 import org.apache.camel.spi.CamelLogger;
-import org.apache.camel.support.DefaultTimeoutMap;
-import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -38,16 +40,18 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A base class for using {@link NettyCamelStateCorrelationManager} that supports timeout.
+ * <p/>
+ * The states are kept in a concurrent map by their correlation id, and the timeouts are tracked
+ * by a timer wheel, so storing and correlating a message does not lock or scan the pending states.
  */
 public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport implements CamelContextAware, NettyCamelStateCorrelationManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(TimeoutCorrelationManagerSupport.class);
 
-    private volatile ScheduledExecutorService scheduledExecutorService;
-    private volatile boolean stopScheduledExecutorService;
+    private final ConcurrentMap<String, PendingState> map = new ConcurrentHashMap<>();
+    private volatile HashedWheelTimer timer;
     private volatile ExecutorService workerPool;
     private volatile boolean stopWorkerPool;
-    private volatile TimeoutMap<String, NettyCamelState> map;
     private volatile CamelLogger timeoutLogger;
 
     private CamelContext camelContext;
@@ -81,8 +85,8 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
     }
 
     /**
-     * Time in millis how frequent to check for timeouts. Set this to a lower value if you want
-     * to react faster upon timeouts. The default value is 1000.
+     * Time in millis how frequent to check for timeouts, which is the duration of a tick of the timer wheel.
+     * Set this to a lower value if you want to react faster upon timeouts. The default value is 1000.
      */
     public void setTimeoutChecker(long timeoutChecker) {
         this.timeoutChecker = timeoutChecker;
@@ -120,6 +124,15 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
      */
     public abstract String getResponseCorrelationId(Object response);
 
+    /**
+     * Extracts the correlation id from the request exchange.
+     * <p/>
+     * The default implementation uses {@link #getRequestCorrelationId(Object)} with the message body.
+     */
+    protected String getRequestCorrelationId(Exchange exchange) {
+        return getRequestCorrelationId(exchange.getMessage().getBody());
+    }
+
     /**
      * Override this to implement a custom timeout response message.
      *
@@ -134,14 +147,17 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
     @Override
     public void putState(Channel channel, NettyCamelState state) {
         // grab the correlation id
-        Object body = state.getExchange().getMessage().getBody();
-        // the correlation id is the first part of the message
-        String cid = getRequestCorrelationId(body);
+        String cid = getRequestCorrelationId(state.getExchange());
         if (ObjectHelper.isEmpty(cid)) {
             throw new IllegalArgumentException("CorrelationID is missing");
         }
         LOG.debug("putState({}) on channel: {}", cid, channel.id());
-        map.put(cid, state, timeout);
+        PendingState pending = new PendingState(cid, state);
+        PendingState old = map.put(cid, pending);
+        if (old != null) {
+            old.cancel();
+        }
+        pending.timeout = timer.newTimeout(pending, timeout, TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -158,7 +174,12 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
         }
         LOG.debug("getState({}) on channel: {}", cid, channel.id());
         // lets remove after use as its no longer needed
-        return map.remove(cid);
+        PendingState pending = map.remove(cid);
+        if (pending == null) {
+            return null;
+        }
+        pending.cancel();
+        return pending.state;
     }
 
     @Override
@@ -173,71 +194,74 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
 
         timeoutLogger = new CamelLogger(LOG, timeoutLoggingLevel);
 
-        if (scheduledExecutorService == null) {
-            scheduledExecutorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "NettyTimeoutCorrelationManager");
-        }
         if (workerPool == null) {
             workerPool = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "NettyTimeoutWorkerPool");
+            stopWorkerPool = true;
         }
 
-        map = new NettyStateTimeoutMap(scheduledExecutorService);
-
-        ServiceHelper.startService(map);
+        timer = new HashedWheelTimer(r -> camelContext.getExecutorServiceManager().newThread("NettyTimeoutCorrelationManager", r),
+                timeoutChecker, TimeUnit.MILLISECONDS);
+        timer.start();
     }
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(map);
-
-        if (scheduledExecutorService != null && stopScheduledExecutorService) {
-            camelContext.getExecutorServiceManager().shutdown(scheduledExecutorService);
-            scheduledExecutorService = null;
+        if (timer != null) {
+            timer.stop();
+            timer = null;
         }
+        map.clear();
+
         if (workerPool != null && stopWorkerPool) {
             camelContext.getExecutorServiceManager().shutdown(workerPool);
             workerPool = null;
+            stopWorkerPool = false;
         }
     }
 
-    @Override
-    protected void doShutdown() throws Exception {
-        ServiceHelper.stopAndShutdownService(map);
+    /**
+     * A state waiting for its reply, which is timed out by the timer wheel unless the reply arrives first.
+     */
+    private final class PendingState implements TimerTask {
 
-        if (scheduledExecutorService != null && stopScheduledExecutorService) {
-            camelContext.getExecutorServiceManager().shutdown(scheduledExecutorService);
-            scheduledExecutorService = null;
-        }
-        if (workerPool != null && stopWorkerPool) {
-            camelContext.getExecutorServiceManager().shutdown(workerPool);
-            workerPool = null;
-        }
-    }
+        private final String correlationId;
+        private final NettyCamelState state;
+        private volatile Timeout timeout;
 
-    private final class NettyStateTimeoutMap extends DefaultTimeoutMap<String, NettyCamelState> {
+        PendingState(String correlationId, NettyCamelState state) {
+            this.correlationId = correlationId;
+            this.state = state;
+        }
 
-        NettyStateTimeoutMap(ScheduledExecutorService executor) {
-            super(executor, timeoutChecker);
+        void cancel() {
+            Timeout t = timeout;
+            if (t != null) {
+                t.cancel();
+            }
         }
 
         @Override
-        public boolean onEviction(String key, NettyCamelState value) {
-            timeoutLogger.log("Timeout of correlation id: " + key);
+        public void run(Timeout t) {
+            // only time out if the reply has not been correlated in the meantime
+            if (!map.remove(correlationId, this)) {
+                return;
+            }
+
+            timeoutLogger.log("Timeout of correlation id: " + correlationId);
 
             workerPool.submit(() -> {
-                Exchange exchange = value.getExchange();
-                AsyncCallback callback = value.getCallback();
+                Exchange exchange = state.getExchange();
+                AsyncCallback callback = state.getCallback();
                 if (exchange != null && callback != null) {
-                    Object timeoutBody = getTimeoutResponse(key, exchange.getMessage().getBody());
+                    Object timeoutBody = getTimeoutResponse(correlationId, exchange.getMessage().getBody());
                     if (timeoutBody != null) {
                         exchange.getMessage().setBody(timeoutBody);
                     } else {
-                        exchange.setException(new ExchangeTimedOutException(exchange, timeout));
+                        exchange.setException(new ExchangeTimedOutException(exchange, TimeoutCorrelationManagerSupport.this.timeout));
                     }
                     callback.done(false);
                 }
             });
-
-            return true;
         }
     }
 }
@@ -18,9 +18,11 @@ package org.apache.camel.component.netty4.handlers;
 
 import java.net.SocketAddress;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.ReferenceCountUtil;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
@@ -29,6 +31,7 @@ import org.apache.camel.component.netty4.NettyConsumer;
 import org.apache.camel.component.netty4.NettyHelper;
 import org.apache.camel.component.netty4.NettyPayloadHelper;
 import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -103,6 +106,17 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
         // we want to handle the UoW
         consumer.createUoW(exchange);
 
+        if (consumer.getConfiguration().isZeroCopy() && msg instanceof ByteBuf) {
+            // the message is released when this method returns, so keep the buffer until the exchange is done
+            ReferenceCountUtil.retain(msg);
+            exchange.addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    ReferenceCountUtil.release(msg);
+                }
+            });
+        }
+
         beforeProcess(exchange, ctx, msg);
 
         // process accordingly to endpoint configuration
@@ -174,6 +188,11 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
                 body = NettyHelper.getTextlineBody(body, exchange, consumer.getConfiguration().getDelimiter(), consumer.getConfiguration().isAutoAppendDelimiter());
             }
 
+            // writing a buffer releases it, so the received buffer must be retained if it is written back as-is
+            if (body == message && consumer.getConfiguration().isZeroCopy()) {
+                ReferenceCountUtil.retain(body);
+            }
+
             // we got a body to write
             ChannelFutureListener listener = createResponseFutureListener(consumer, exchange, ctx.channel().remoteAddress());
             if (consumer.getConfiguration().isTcp()) {
@@ -16,9 +16,13 @@
  */
 package org.apache.camel.component.netty4;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.test.junit4.CamelTestSupport;
 import org.junit.After;
 import org.junit.Before;
@@ -62,4 +66,33 @@ public class NettyConverterTest extends CamelTestSupport {
         assertEquals(PAYLOAD, result);
     }
 
+    @Test
+    public void testConversionOfSlice() {
+        ByteBuf heap = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        try {
+            heap.writeBytes(("Hello " + PAYLOAD + " World").getBytes());
+            ByteBuf slice = heap.slice(6, PAYLOAD.length());
+
+            byte[] bytes = context.getTypeConverter().convertTo(byte[].class, slice);
+            assertEquals(PAYLOAD, new String(bytes));
+            String result = context.getTypeConverter().convertTo(String.class, new DefaultExchange(context), slice);
+            assertEquals(PAYLOAD, result);
+        } finally {
+            heap.release();
+        }
+    }
+
+    @Test
+    public void testConversionDoesNotConsume() throws Exception {
+        InputStream is = context.getTypeConverter().convertTo(InputStream.class, buf);
+        assertEquals(PAYLOAD, IOHelper.loadText(is).trim());
+
+        ByteBuffer buffer = context.getTypeConverter().convertTo(ByteBuffer.class, buf);
+        assertEquals(PAYLOAD.length(), buffer.remaining());
+
+        // the buffer can still be read after the conversions
+        assertEquals(PAYLOAD.length(), buf.readableBytes());
+        assertEquals(PAYLOAD, context.getTypeConverter().convertTo(String.class, buf));
+    }
+
 }
@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.junit.Test;
+
+import static org.apache.camel.builder.SimpleBuilder.simple;
+
+public class NettyExpressionCorrelationManagerTest extends BaseNettyTest {
+
+    private final Set<Object> clients = ConcurrentHashMap.newKeySet();
+    private final ExpressionCorrelationManager myManager = new ExpressionCorrelationManager(simple("${body}"), simple("${body.substring(4)}"));
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        myManager.setTimeout(1000);
+        myManager.setTimeoutChecker(100);
+
+        JndiRegistry jndi = super.createRegistry();
+        jndi.bind("myManager", myManager);
+        return jndi;
+    }
+
+    @Test
+    public void testExpressionCorrelationManager() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(50);
+        // check that the request and reply are correlated correctly
+        mock.allMessages().predicate(exchange -> {
+            String request = exchange.getMessage().getHeader("request", String.class);
+            String reply = exchange.getMessage().getBody(String.class);
+            return reply.equals("Bye " + request);
+        });
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBodyAndHeader("seda:start", "Message " + i, "request", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // the messages should be spread over the shared channels
+        assertEquals(2, clients.size());
+    }
+
+    @Test
+    public void testExpressionCorrelationManagerTimeout() throws Exception {
+        try {
+            template.requestBody("direct:start", "Slow", String.class);
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ExchangeTimedOutException.class, e.getCause());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?concurrentConsumers=10")
+                    .to("netty4:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolEnabled=false&producerSharedChannels=2&correlationManager=#myManager")
+                    .to("mock:result");
+
+                from("direct:start")
+                    .to("netty4:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolEnabled=false&producerSharedChannels=2&correlationManager=#myManager");
+
+                from("netty4:tcp://localhost:{{port}}?textline=true&sync=true")
+                    .process(exchange -> clients.add(exchange.getIn().getHeader(NettyConstants.NETTY_REMOTE_ADDRESS)))
+                    .transform(body().prepend("Bye "))
+                    .filter(body().isEqualTo("Bye Slow"))
+                        .delay(3000);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class NettyZeroCopyTest extends BaseNettyTest {
+
+    private volatile ByteBuf received;
+
+    @Test
+    public void testZeroCopy() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(ByteBuf.class);
+
+        String out = template.requestBody("netty4:tcp://localhost:{{port}}?textline=true&sync=true", "World", String.class);
+        assertEquals("Bye World", out);
+
+        assertMockEndpointsSatisfied();
+
+        // the buffer should be released when the exchange is done
+        for (int i = 0; i < 50 && received.refCnt() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, received.refCnt());
+    }
+
+    @Test
+    public void testZeroCopyIsNotSupportedByProducer() throws Exception {
+        try {
+            context.getEndpoint("netty4:tcp://localhost:{{port}}?textline=true&sync=true&zeroCopy=true").createProducer();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The option zeroCopy is only supported by the consumer"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("netty4:tcp://localhost:{{port}}?textline=true&sync=true&zeroCopy=true")
+                    .process(exchange -> received = exchange.getIn().getBody(ByteBuf.class))
+                    .to("mock:result")
+                    .transform(body().convertToString().prepend("Bye "));
+            }
+        };
+    }
+}
@@ -131,6 +131,10 @@ public class RabbitMQComponent extends DefaultComponent {
     @Metadata(label = "producer")
     private long publisherAcknowledgementsTimeout;
     @Metadata(label = "producer")
+    private boolean publisherAcknowledgementsAsync;
+    @Metadata(label = "producer", defaultValue = "1000")
+    private int publisherAcknowledgementsMaxOutstanding = 1000;
+    @Metadata(label = "producer")
     private boolean guaranteedDeliveries;
     @Metadata(label = "advanced")
     private Map<String, Object> args;
@@ -224,6 +228,8 @@ public class RabbitMQComponent extends DefaultComponent {
         endpoint.setTransferException(isTransferException());
         endpoint.setPublisherAcknowledgements(isPublisherAcknowledgements());
         endpoint.setPublisherAcknowledgementsTimeout(getPublisherAcknowledgementsTimeout());
+        endpoint.setPublisherAcknowledgementsAsync(isPublisherAcknowledgementsAsync());
+        endpoint.setPublisherAcknowledgementsMaxOutstanding(getPublisherAcknowledgementsMaxOutstanding());
         endpoint.setGuaranteedDeliveries(isGuaranteedDeliveries());
         endpoint.setMandatory(isMandatory());
         endpoint.setImmediate(isImmediate());
@@ -596,6 +602,35 @@ public class RabbitMQComponent extends DefaultComponent {
         this.publisherAcknowledgementsTimeout = publisherAcknowledgementsTimeout;
     }
 
+    /**
+     * When true, the message will be published with publisher acknowledgements
+     * turned on, but instead of blocking until the broker confirms the message,
+     * the exchange is continued asynchronously when the basic.ack or basic.nack
+     * for its delivery tag is received. This option has no effect when
+     * guaranteedDeliveries is enabled.
+     */
+    public boolean isPublisherAcknowledgementsAsync() {
+        return publisherAcknowledgementsAsync;
+    }
+
+    public void setPublisherAcknowledgementsAsync(boolean publisherAcknowledgementsAsync) {
+        this.publisherAcknowledgementsAsync = publisherAcknowledgementsAsync;
+    }
+
+    /**
+     * The maximum number of published messages waiting for a publisher
+     * acknowledgement, when publisherAcknowledgementsAsync is enabled.
+     * Publishing blocks when this many messages have not yet been confirmed.
+     * Must be a positive number.
+     */
+    public int getPublisherAcknowledgementsMaxOutstanding() {
+        return publisherAcknowledgementsMaxOutstanding;
+    }
+
+    public void setPublisherAcknowledgementsMaxOutstanding(int publisherAcknowledgementsMaxOutstanding) {
+        this.publisherAcknowledgementsMaxOutstanding = publisherAcknowledgementsMaxOutstanding;
+    }
+
     /**
      * When true, an exception will be thrown when the message cannot be
      * delivered (basic.return) and the message is marked as mandatory.
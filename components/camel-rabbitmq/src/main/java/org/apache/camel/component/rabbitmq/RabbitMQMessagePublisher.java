@@ -44,6 +44,7 @@ public class RabbitMQMessagePublisher {
     private final String routingKey;
     private final RabbitMQEndpoint endpoint;
     private final Message message;
+    private boolean waitForConfirms = true;
     private volatile boolean basicReturnReceived;
     private final ReturnListener guaranteedDeliveryReturnListener = new ReturnListener() {
         @Override
@@ -77,6 +78,16 @@ public class RabbitMQMessagePublisher {
         return message;
     }
 
+    /**
+     * Publishes the message on a channel which is already in confirm mode,
+     * without waiting for the publisher acknowledgement, which is tracked by
+     * the caller instead.
+     */
+    public void publishWithoutWaitingForConfirms() throws IOException {
+        waitForConfirms = false;
+        publish();
+    }
+
     public void publish() throws IOException {
         AMQP.BasicProperties properties;
         byte[] body;
@@ -139,7 +150,7 @@ public class RabbitMQMessagePublisher {
     }
 
     private boolean isPublisherAcknowledgements() {
-        return endpoint.isPublisherAcknowledgements() || endpoint.isGuaranteedDeliveries();
+        return waitForConfirms && (endpoint.isPublisherAcknowledgements() || endpoint.isGuaranteedDeliveries());
     }
 
     private void waitForConfirmation() throws IOException {
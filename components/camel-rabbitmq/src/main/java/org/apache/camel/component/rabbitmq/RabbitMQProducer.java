@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.rabbitmq.client.AMQP;
@@ -29,6 +30,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.FailedToCreateProducerException;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.rabbitmq.pool.LockFreeObjectPool;
 import org.apache.camel.component.rabbitmq.pool.PoolableChannelFactory;
 import org.apache.camel.component.rabbitmq.reply.ReplyManager;
 import org.apache.camel.component.rabbitmq.reply.TemporaryQueueReplyManager;
@@ -36,7 +38,6 @@ import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.commons.pool.ObjectPool;
-import org.apache.commons.pool.impl.GenericObjectPool;
 
 public class RabbitMQProducer extends DefaultAsyncProducer {
     private static final String GENERATED_CORRELATION_ID_PREFIX = "Camel-";
@@ -44,6 +45,9 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
     private Connection conn;
     private ObjectPool<Channel> channelPool;
     private ExecutorService executorService;
+    private RabbitMQPublisherConfirms publisherConfirms;
+    private ExecutorService publisherConfirmsExecutor;
+    private ScheduledExecutorService publisherConfirmsTimeoutChecker;
     private int closeTimeout = 30 * 1000;
     private final AtomicBoolean started = new AtomicBoolean(false);
 
@@ -103,8 +107,8 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
         log.debug("Created connection: {}", conn);
 
         log.trace("Creating channel pool...");
-        channelPool = new GenericObjectPool<>(new PoolableChannelFactory(this.conn), getEndpoint().getChannelPoolMaxSize(),
-                GenericObjectPool.WHEN_EXHAUSTED_BLOCK, getEndpoint().getChannelPoolMaxWait());
+        channelPool = new LockFreeObjectPool<>(new PoolableChannelFactory(this.conn), getEndpoint().getChannelPoolMaxSize(),
+                getEndpoint().getChannelPoolMaxWait());
         attemptDeclaration();
     }
 
@@ -139,6 +143,20 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
     @Override
     protected void doStart() throws Exception {
         this.executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, "CamelRabbitMQProducer[" + getEndpoint().getQueue() + "]");
+        // guaranteed deliveries have to wait for the confirm to know whether the message was returned
+        if (getEndpoint().isPublisherAcknowledgementsAsync() && !getEndpoint().isGuaranteedDeliveries()) {
+            long timeout = getEndpoint().getPublisherAcknowledgementsTimeout();
+            // the confirmed exchanges continue routing on this thread pool, rather than on the connection thread
+            publisherConfirmsExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this,
+                    "RabbitMQPublisherConfirms[" + getEndpoint().getExchangeName() + "]");
+            publisherConfirms = new RabbitMQPublisherConfirms(getEndpoint().getPublisherAcknowledgementsMaxOutstanding(), timeout, publisherConfirmsExecutor);
+            if (timeout > 0) {
+                String name = "RabbitMQPublisherConfirmsTimeoutChecker[" + getEndpoint().getExchangeName() + "]";
+                long interval = Math.min(timeout, 1000);
+                publisherConfirmsTimeoutChecker = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, name);
+                publisherConfirmsTimeoutChecker.scheduleWithFixedDelay(publisherConfirms::checkTimeouts, interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
         try {
             openConnectionAndChannelPool();
         } catch (IOException e) {
@@ -170,6 +188,16 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
     protected void doStop() throws Exception {
         unInitReplyManager();
         closeConnectionAndChannel();
+        if (publisherConfirmsTimeoutChecker != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(publisherConfirmsTimeoutChecker);
+            publisherConfirmsTimeoutChecker = null;
+        }
+        if (publisherConfirmsExecutor != null) {
+            // run the continuations of the exchanges failed when the channels were closed
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(publisherConfirmsExecutor);
+            publisherConfirmsExecutor = null;
+        }
+        publisherConfirms = null;
         if (executorService != null) {
             getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(executorService);
             executorService = null;
@@ -270,6 +298,12 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
             throw new IllegalArgumentException("ExchangeName and RoutingKey is not provided in the endpoint: " + getEndpoint());
         }
 
+        if (publisherConfirms != null) {
+            // continue routing asynchronously when the message is confirmed
+            basicPublishAsync(exchange, key, callback);
+            return false;
+        }
+
         basicPublish(exchange, exchangeName, key);
         callback.done(true);
         return true;
@@ -292,6 +326,25 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
         });
     }
 
+    /**
+     * Send a message borrowing a channel from the pool, without waiting for the
+     * publisher acknowledgement. The callback is invoked when the message is confirmed.
+     */
+    private void basicPublishAsync(final Exchange camelExchange, final String routingKey, final AsyncCallback callback) throws Exception {
+        if (channelPool == null) {
+            // Open connection and channel lazily if another thread hasn't
+            checkConnectionAndChannelPool();
+        }
+        execute(new ChannelCallback<Void>() {
+            @Override
+            public Void doWithChannel(Channel channel) throws Exception {
+                publisherConfirms.publish(channel, camelExchange, callback,
+                    () -> new RabbitMQMessagePublisher(camelExchange, channel, routingKey, getEndpoint()).publishWithoutWaitingForConfirms());
+                return null;
+            }
+        });
+    }
+
     AMQP.BasicProperties.Builder buildProperties(Exchange exchange) {
         return getEndpoint().getMessageConverter().buildProperties(exchange);
     }
@@ -0,0 +1,270 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.RuntimeCamelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes messages on channels in confirm mode without waiting for the
+ * publisher acknowledgements.
+ * <p/>
+ * The published exchanges are tracked by the delivery tag of their message,
+ * and are continued when the broker acknowledges (basic.ack) or rejects
+ * (basic.nack) the message, when the channel is closed, or when no
+ * acknowledgement has been received within the timeout. At most
+ * <tt>maxOutstanding</tt> messages are waiting for an acknowledgement, after
+ * which publishing blocks.
+ */
+class RabbitMQPublisherConfirms {
+    private static final Logger LOG = LoggerFactory.getLogger(RabbitMQPublisherConfirms.class);
+
+    /**
+     * Publishes the message of an exchange on a channel
+     */
+    interface Publisher {
+        void publish() throws Exception;
+    }
+
+    private final Semaphore outstanding;
+    private final long timeout;
+    private final Executor executor;
+    private final Map<Channel, ChannelConfirms> channels = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxOutstanding the maximum number of messages waiting for an acknowledgement, must be positive
+     * @param timeout        the number of milliseconds to wait for an acknowledgement, or zero to wait indefinitely
+     * @param executor       the executor continuing the exchanges, so they are not continued by the
+     *                       connection thread receiving the acknowledgements
+     */
+    RabbitMQPublisherConfirms(int maxOutstanding, long timeout, Executor executor) {
+        if (maxOutstanding <= 0) {
+            // no message could ever be published
+            throw new IllegalArgumentException("publisherAcknowledgementsMaxOutstanding must be a positive number, was: " + maxOutstanding);
+        }
+        this.outstanding = new Semaphore(maxOutstanding);
+        this.timeout = timeout;
+        this.executor = executor;
+    }
+
+    /**
+     * Publishes the message of the exchange on the channel, and invokes the
+     * callback once the message has been confirmed.
+     * <p/>
+     * When an exception is thrown the message has not been published, and the
+     * callback will not be invoked.
+     */
+    void publish(Channel channel, Exchange exchange, AsyncCallback callback, Publisher publisher) throws Exception {
+        acquire(exchange);
+
+        ChannelConfirms confirms;
+        long deliveryTag;
+        try {
+            confirms = confirmSelect(channel);
+            deliveryTag = channel.getNextPublishSeqNo();
+            confirms.pending.put(deliveryTag, new PendingConfirm(exchange, callback, timeout > 0 ? System.currentTimeMillis() + timeout : 0));
+        } catch (Exception e) {
+            outstanding.release();
+            throw e;
+        }
+
+        try {
+            publisher.publish();
+        } catch (Exception e) {
+            if (confirms.pending.remove(deliveryTag) == null) {
+                // the exchange has already been failed as the channel was closed
+                LOG.debug("Failed to publish message with delivery tag: {} on closed channel: {}", deliveryTag, channel, e);
+                return;
+            }
+            outstanding.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Fails the exchanges which have not been acknowledged within the timeout.
+     */
+    void checkTimeouts() {
+        if (timeout <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (ChannelConfirms confirms : channels.values()) {
+            List<PendingConfirm> expired = new ArrayList<>();
+            // the pending confirms are ordered by delivery tag, and thereby by the time they were published
+            for (Map.Entry<Long, PendingConfirm> entry : confirms.pending.entrySet()) {
+                if (entry.getValue().deadline > now) {
+                    break;
+                }
+                if (confirms.pending.remove(entry.getKey()) != null) {
+                    PendingConfirm confirm = entry.getValue();
+                    confirm.exchange.setException(new ExchangeTimedOutException(confirm.exchange, timeout,
+                            "No publisher acknowledgement received for message with delivery tag: " + entry.getKey()));
+                    expired.add(confirm);
+                }
+            }
+            if (!expired.isEmpty()) {
+                LOG.warn("Publisher acknowledgements not received within {} ms for {} messages on channel: {}", timeout, expired.size(), confirms.channel);
+                done(expired);
+            }
+        }
+    }
+
+    /**
+     * The number of published messages waiting for an acknowledgement
+     */
+    int getOutstanding() {
+        int answer = 0;
+        for (ChannelConfirms confirms : channels.values()) {
+            answer += confirms.pending.size();
+        }
+        return answer;
+    }
+
+    private void acquire(Exchange exchange) throws InterruptedException, ExchangeTimedOutException {
+        if (timeout <= 0) {
+            outstanding.acquire();
+        } else if (!outstanding.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new ExchangeTimedOutException(exchange, timeout, "Too many messages waiting for a publisher acknowledgement");
+        }
+    }
+
+    /**
+     * Puts the channel in confirm mode when it is used for the first time.
+     * The channel is borrowed from the pool, so it is not used concurrently.
+     */
+    private ChannelConfirms confirmSelect(Channel channel) throws IOException {
+        ChannelConfirms answer = channels.get(channel);
+        if (answer == null) {
+            channel.confirmSelect();
+            answer = new ChannelConfirms(channel);
+            channel.addConfirmListener(answer);
+            channel.addShutdownListener(answer);
+            channels.put(channel, answer);
+        }
+        return answer;
+    }
+
+    private void done(final List<PendingConfirm> confirms) {
+        outstanding.release(confirms.size());
+        Runnable task = () -> {
+            for (PendingConfirm confirm : confirms) {
+                confirm.callback.done(false);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the producer is stopping
+            task.run();
+        }
+    }
+
+    private final class ChannelConfirms implements ConfirmListener, ShutdownListener {
+        private final Channel channel;
+        private final ConcurrentNavigableMap<Long, PendingConfirm> pending = new ConcurrentSkipListMap<>();
+
+        private ChannelConfirms(Channel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void handleAck(long deliveryTag, boolean multiple) {
+            List<PendingConfirm> confirms = remove(deliveryTag, multiple);
+            if (!confirms.isEmpty()) {
+                done(confirms);
+            }
+        }
+
+        @Override
+        public void handleNack(long deliveryTag, boolean multiple) {
+            List<PendingConfirm> confirms = remove(deliveryTag, multiple);
+            if (!confirms.isEmpty()) {
+                LOG.warn("Publisher acknowledgement error for delivery tag: {} on channel: {}; basic.nack received", deliveryTag, channel);
+                for (PendingConfirm confirm : confirms) {
+                    confirm.exchange.setException(new RuntimeCamelException("Failed to deliver message; basic.nack received"));
+                }
+                done(confirms);
+            }
+        }
+
+        @Override
+        public void shutdownCompleted(ShutdownSignalException cause) {
+            channels.remove(channel, this);
+            List<PendingConfirm> confirms = remove(Long.MAX_VALUE, true);
+            if (!confirms.isEmpty()) {
+                LOG.warn("Channel: {} closed with {} messages waiting for a publisher acknowledgement", channel, confirms.size());
+                for (PendingConfirm confirm : confirms) {
+                    confirm.exchange.setException(cause);
+                }
+                done(confirms);
+            }
+        }
+
+        /**
+         * Removes the pending confirm of the delivery tag, or of all the delivery
+         * tags up to and including it, if the broker confirmed multiple messages.
+         */
+        private List<PendingConfirm> remove(long deliveryTag, boolean multiple) {
+            if (!multiple) {
+                PendingConfirm confirm = pending.remove(deliveryTag);
+                return confirm != null ? Collections.singletonList(confirm) : Collections.emptyList();
+            }
+            List<PendingConfirm> answer = new ArrayList<>();
+            for (Long tag : pending.headMap(deliveryTag, true).keySet()) {
+                PendingConfirm confirm = pending.remove(tag);
+                if (confirm != null) {
+                    answer.add(confirm);
+                }
+            }
+            return answer;
+        }
+    }
+
+    private static final class PendingConfirm {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final long deadline;
+
+        private PendingConfirm(Exchange exchange, AsyncCallback callback, long deadline) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq.pool;
+
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.pool.BaseObjectPool;
+import org.apache.commons.pool.PoolableObjectFactory;
+
+/**
+ * A bounded {@link org.apache.commons.pool.ObjectPool} which does not
+ * synchronize on the pool when borrowing and returning objects.
+ * <p/>
+ * The idle objects are kept in a FIFO lock-free queue, and the number of
+ * borrowed objects is bounded by a semaphore, so callers only block when all
+ * the objects are in use, for at most the given maximum wait time.
+ * <p/>
+ * Like {@link org.apache.commons.pool.impl.GenericObjectPool}, the number of
+ * borrowed objects is not bounded when the maximum is zero or negative.
+ */
+public class LockFreeObjectPool<T> extends BaseObjectPool<T> {
+
+    private final PoolableObjectFactory<T> factory;
+    private final int maxActive;
+    private final long maxWait;
+    private final Semaphore permits;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numIdle = new AtomicInteger();
+
+    /**
+     * @param factory   the factory creating the pooled objects
+     * @param maxActive the maximum number of objects borrowed at the same time,
+     *                  or a negative or zero value for no limit
+     * @param maxWait   the maximum number of milliseconds to wait for an object
+     *                  when the pool is exhausted, or a negative or zero value to
+     *                  wait indefinitely
+     */
+    public LockFreeObjectPool(PoolableObjectFactory<T> factory, int maxActive, long maxWait) {
+        this.factory = factory;
+        this.maxActive = maxActive > 0 ? maxActive : Integer.MAX_VALUE;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(this.maxActive);
+    }
+
+    @Override
+    public T borrowObject() throws Exception {
+        assertOpen();
+        if (maxWait <= 0) {
+            permits.acquire();
+        } else if (!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+            throw new NoSuchElementException("Timeout waiting for idle object");
+        }
+        try {
+            T answer = pollIdle();
+            if (answer == null) {
+                answer = factory.makeObject();
+            }
+            factory.activateObject(answer);
+            return answer;
+        } catch (Exception e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void returnObject(T obj) throws Exception {
+        try {
+            if (isClosed()) {
+                factory.destroyObject(obj);
+            } else {
+                factory.passivateObject(obj);
+                offerIdle(obj);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void invalidateObject(T obj) throws Exception {
+        try {
+            factory.destroyObject(obj);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Creates an idle object, unless the pool is already full.
+     */
+    @Override
+    public void addObject() throws Exception {
+        assertOpen();
+        if (getNumIdle() + getNumActive() < maxActive) {
+            T obj = factory.makeObject();
+            factory.passivateObject(obj);
+            offerIdle(obj);
+        }
+    }
+
+    @Override
+    public int getNumIdle() {
+        return numIdle.get();
+    }
+
+    @Override
+    public int getNumActive() {
+        return maxActive - permits.availablePermits();
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    @Override
+    public void clear() throws Exception {
+        T obj;
+        while ((obj = pollIdle()) != null) {
+            try {
+                factory.destroyObject(obj);
+            } catch (Exception e) {
+                // ignore as we are clearing the pool
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        clear();
+    }
+
+    private T pollIdle() {
+        T answer = idle.poll();
+        if (answer != null) {
+            numIdle.decrementAndGet();
+        }
+        return answer;
+    }
+
+    private void offerIdle(T obj) {
+        idle.offer(obj);
+        numIdle.incrementAndGet();
+    }
+}
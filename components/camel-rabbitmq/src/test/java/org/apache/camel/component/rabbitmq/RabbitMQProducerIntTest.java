@@ -21,6 +21,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import com.rabbitmq.client.AMQP;
@@ -49,6 +52,7 @@ public class RabbitMQProducerIntTest extends AbstractRabbitMQIntTest {
     private static final String BASIC_URI = String.format(BASIC_URI_FORMAT, EXCHANGE, ROUTE);
     private static final String ALLOW_NULL_HEADERS = BASIC_URI + "&allowNullHeaders=true";
     private static final String PUBLISHER_ACKNOWLEDGES_URI = BASIC_URI + "&mandatory=true&publisherAcknowledgements=true";
+    private static final String PUBLISHER_ACKNOWLEDGES_ASYNC_URI = BASIC_URI + "&publisherAcknowledgementsAsync=true&publisherAcknowledgementsMaxOutstanding=10";
     private static final String PUBLISHER_ACKNOWLEDGES_BAD_ROUTE_URI = String.format(BASIC_URI_FORMAT, EXCHANGE, "route2") + "&publisherAcknowledgements=true";
     private static final String GUARANTEED_DELIVERY_URI = BASIC_URI + "&mandatory=true&guaranteedDeliveries=true";
     private static final String GUARANTEED_DELIVERY_BAD_ROUTE_NOT_MANDATORY_URI = String.format(BASIC_URI_FORMAT, EXCHANGE, "route2") + "&guaranteedDeliveries=true";
@@ -63,6 +67,9 @@ public class RabbitMQProducerIntTest extends AbstractRabbitMQIntTest {
     @Produce(uri = "direct:start-with-confirms")
     protected ProducerTemplate templateWithConfirms;
 
+    @Produce(uri = "direct:start-with-async-confirms")
+    protected ProducerTemplate templateWithAsyncConfirms;
+
     @Produce(uri = "direct:start-with-confirms-bad-route")
     protected ProducerTemplate templateWithConfirmsAndBadRoute;
 
@@ -87,6 +94,7 @@ public class RabbitMQProducerIntTest extends AbstractRabbitMQIntTest {
                 from("direct:start").to(BASIC_URI);
                 from("direct:start-allow-null-headers").to(ALLOW_NULL_HEADERS);
                 from("direct:start-with-confirms").to(PUBLISHER_ACKNOWLEDGES_URI);
+                from("direct:start-with-async-confirms").to(PUBLISHER_ACKNOWLEDGES_ASYNC_URI);
                 from("direct:start-with-confirms-bad-route").to(PUBLISHER_ACKNOWLEDGES_BAD_ROUTE_URI);
                 from("direct:start-with-guaranteed-delivery").to(GUARANTEED_DELIVERY_URI);
                 from("direct:start-with-guaranteed-delivery-bad-route").to(GUARANTEED_DELIVERY_BAD_ROUTE_URI);
@@ -189,6 +197,25 @@ public class RabbitMQProducerIntTest extends AbstractRabbitMQIntTest {
         assertThatBodiesReceivedIn(received, "publisher ack message");
     }
 
+    @Test
+    public void producedMessagesAreReceivedWhenAsyncPublisherAcknowledgementsAreEnabled() throws Exception {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        channel.basicConsume("sammyq", true, new ArrayPopulatingConsumer(received));
+
+        // more messages than can be outstanding, so publishing has to wait for the confirms
+        List<Future<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            replies.add(templateWithAsyncConfirms.asyncSendBody("direct:start-with-async-confirms", "async publisher ack message " + i));
+        }
+        for (Future<Object> reply : replies) {
+            // fails if the message was not confirmed
+            reply.get(10, TimeUnit.SECONDS);
+        }
+
+        Thread.sleep(500);
+        assertListSize(received, 100);
+    }
+
     @Test
     public void producedMessageIsReceivedWhenPublisherAcknowledgementsAreEnabledAndBadRoutingKeyIsUsed() throws InterruptedException, IOException, TimeoutException {
         final List<String> received = new ArrayList<>();
@@ -0,0 +1,197 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RabbitMQPublisherConfirmsTest {
+
+    private final DefaultCamelContext context = new DefaultCamelContext();
+    private final List<Exchange> done = new ArrayList<>();
+    private Channel channel = Mockito.mock(Channel.class);
+    private long nextPublishSeqNo = 1;
+
+    @Before
+    public void before() {
+        Mockito.when(channel.getNextPublishSeqNo()).thenAnswer(invocation -> nextPublishSeqNo);
+    }
+
+    @Test
+    public void testExchangeIsContinuedWhenAcknowledged() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(10, 0, Runnable::run);
+        Exchange exchange = publish(confirms);
+
+        Mockito.verify(channel).confirmSelect();
+        assertTrue(done.isEmpty());
+        assertEquals(1, confirms.getOutstanding());
+
+        confirmListener().handleAck(1, false);
+        assertEquals(1, done.size());
+        assertNull(exchange.getException());
+        assertEquals(0, confirms.getOutstanding());
+    }
+
+    @Test
+    public void testMultipleAcknowledgements() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(10, 0, Runnable::run);
+        Exchange first = publish(confirms);
+        Exchange second = publish(confirms);
+        Exchange third = publish(confirms);
+
+        // the channel is put in confirm mode only once
+        Mockito.verify(channel).confirmSelect();
+
+        confirmListener().handleAck(2, true);
+        assertEquals(2, done.size());
+        assertSame(first, done.get(0));
+        assertSame(second, done.get(1));
+
+        confirmListener().handleAck(3, true);
+        assertEquals(3, done.size());
+        assertSame(third, done.get(2));
+    }
+
+    @Test
+    public void testExchangeFailsWhenNotAcknowledged() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(10, 0, Runnable::run);
+        Exchange exchange = publish(confirms);
+
+        confirmListener().handleNack(1, false);
+        assertEquals(1, done.size());
+        assertTrue(exchange.getException() instanceof RuntimeCamelException);
+    }
+
+    @Test
+    public void testExchangeFailsWhenChannelIsClosed() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(10, 0, Runnable::run);
+        Exchange exchange = publish(confirms);
+
+        ShutdownSignalException cause = Mockito.mock(ShutdownSignalException.class);
+        shutdownListener().shutdownCompleted(cause);
+        assertEquals(1, done.size());
+        assertSame(cause, exchange.getException());
+        assertEquals(0, confirms.getOutstanding());
+    }
+
+    @Test
+    public void testExchangeFailsWhenAcknowledgementTimesOut() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(10, 50, Runnable::run);
+        Exchange exchange = publish(confirms);
+
+        confirms.checkTimeouts();
+        assertTrue(done.isEmpty());
+
+        Thread.sleep(100);
+        confirms.checkTimeouts();
+        assertEquals(1, done.size());
+        assertTrue(exchange.getException() instanceof ExchangeTimedOutException);
+
+        // a late acknowledgement is ignored
+        confirmListener().handleAck(1, false);
+        assertEquals(1, done.size());
+    }
+
+    @Test
+    public void testPublishingIsBoundedByMaxOutstanding() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(1, 50, Runnable::run);
+        publish(confirms);
+
+        try {
+            publish(confirms);
+            fail("Should have thrown an exception");
+        } catch (ExchangeTimedOutException e) {
+            // expected
+        }
+
+        confirmListener().handleAck(1, false);
+        publish(confirms);
+        assertEquals(1, confirms.getOutstanding());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxOutstandingMustBePositive() throws Exception {
+        new RabbitMQPublisherConfirms(0, 0, Runnable::run);
+    }
+
+    @Test
+    public void testCallbackIsNotInvokedWhenPublishingFails() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(1, 0, Runnable::run);
+        Exchange exchange = new DefaultExchange(context);
+        try {
+            confirms.publish(channel, exchange, doneSync -> done.add(exchange), () -> {
+                throw new IOException("Forced");
+            });
+            fail("Should have thrown an exception");
+        } catch (IOException e) {
+            // expected
+        }
+        assertTrue(done.isEmpty());
+        assertEquals(0, confirms.getOutstanding());
+
+        // the outstanding confirm was released
+        publish(confirms);
+        assertEquals(1, confirms.getOutstanding());
+    }
+
+    private Exchange publish(RabbitMQPublisherConfirms confirms) throws Exception {
+        final Exchange exchange = new DefaultExchange(context);
+        confirms.publish(channel, exchange, new AsyncCallback() {
+            @Override
+            public void done(boolean doneSync) {
+                assertFalse(doneSync);
+                done.add(exchange);
+            }
+        }, () -> nextPublishSeqNo++);
+        return exchange;
+    }
+
+    private ConfirmListener confirmListener() {
+        ArgumentCaptor<ConfirmListener> listener = ArgumentCaptor.forClass(ConfirmListener.class);
+        Mockito.verify(channel).addConfirmListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private ShutdownListener shutdownListener() {
+        ArgumentCaptor<ShutdownListener> listener = ArgumentCaptor.forClass(ShutdownListener.class);
+        Mockito.verify(channel).addShutdownListener(listener.capture());
+        return listener.getValue();
+    }
+}
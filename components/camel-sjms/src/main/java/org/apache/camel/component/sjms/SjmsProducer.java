@@ -28,10 +28,11 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.sjms.jms.ConnectionResource;
+import org.apache.camel.component.sjms.jms.LockFreeObjectPool;
 import org.apache.camel.component.sjms.tx.SessionTransactionSynchronization;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.commons.pool.BasePoolableObjectFactory;
-import org.apache.commons.pool.impl.GenericObjectPool;
+import org.apache.commons.pool.ObjectPool;
 
 /**
  * Base SjmsProducer class.
@@ -72,7 +73,7 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
         }
     }
 
-    private GenericObjectPool<MessageProducerResources> producers;
+    private ObjectPool<MessageProducerResources> producers;
     private ExecutorService executor;
     private Future<?> asyncStart;
 
@@ -86,10 +87,7 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
 
         this.executor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "SjmsProducer");
         if (getProducers() == null) {
-            setProducers(new GenericObjectPool<>(new MessageProducerResourcesFactory()));
-            getProducers().setMaxActive(getProducerCount());
-            getProducers().setMaxIdle(getProducerCount());
-            getProducers().setLifo(false);
+            setProducers(new LockFreeObjectPool<>(new MessageProducerResourcesFactory(), getProducerCount()));
             if (getEndpoint().isPrefillPool()) {
                 if (getEndpoint().isAsyncStartListener()) {
                     asyncStart = getEndpoint().getComponent().getAsyncStartStopExecutorService().submit(new Runnable() {
@@ -115,7 +113,7 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
     }
 
     private void fillProducersPool() throws Exception {
-        while (producers.getNumIdle() < producers.getMaxIdle()) {
+        while (producers.getNumIdle() + producers.getNumActive() < getProducerCount()) {
             producers.addObject();
         }
     }
@@ -327,20 +325,25 @@ public abstract class SjmsProducer extends DefaultAsyncProducer {
 
     /**
      * Sets the producer pool for this instance of SjmsProducer.
+     * <p/>
+     * The pool is typed as {@link ObjectPool} instead of {@link org.apache.commons.pool.impl.GenericObjectPool}
+     * as the default pool is a {@link LockFreeObjectPool}.
      *
      * @param producers A MessageProducerPool
      */
-    public void setProducers(GenericObjectPool<MessageProducerResources> producers) {
+    public void setProducers(ObjectPool<MessageProducerResources> producers) {
         this.producers = producers;
     }
 
     /**
      * Gets the MessageProducerPool value of producers for this instance of
      * SjmsProducer.
+     * <p/>
+     * The pool is a {@link LockFreeObjectPool} unless a pool has been set with {@link #setProducers(ObjectPool)}.
      *
      * @return the producers
      */
-    public GenericObjectPool<MessageProducerResources> getProducers() {
+    public ObjectPool<MessageProducerResources> getProducers() {
         return producers;
     }
 
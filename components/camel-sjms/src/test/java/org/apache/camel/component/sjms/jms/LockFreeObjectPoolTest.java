@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.jms;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LockFreeObjectPoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger destroyed = new AtomicInteger();
+
+    private final BasePoolableObjectFactory<Integer> factory = new BasePoolableObjectFactory<Integer>() {
+        @Override
+        public Integer makeObject() throws Exception {
+            return created.incrementAndGet();
+        }
+
+        @Override
+        public void destroyObject(Integer obj) throws Exception {
+            destroyed.incrementAndGet();
+        }
+    };
+
+    @Test
+    public void testBorrowAndReturn() throws Exception {
+        LockFreeObjectPool<Integer> pool = new LockFreeObjectPool<>(factory, 2);
+
+        Integer first = pool.borrowObject();
+        assertEquals(1, pool.getNumActive());
+        pool.returnObject(first);
+        assertEquals(0, pool.getNumActive());
+        assertEquals(1, pool.getNumIdle());
+
+        assertSame(first, pool.borrowObject());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testFillAndClose() throws Exception {
+        LockFreeObjectPool<Integer> pool = new LockFreeObjectPool<>(factory, 3);
+        for (int i = 0; i < 5; i++) {
+            pool.addObject();
+        }
+        assertEquals(3, pool.getNumIdle());
+
+        pool.close();
+        assertEquals(0, pool.getNumIdle());
+        assertEquals(3, destroyed.get());
+    }
+
+    @Test
+    public void testBorrowBlocksWhenExhausted() throws Exception {
+        final LockFreeObjectPool<Integer> pool = new LockFreeObjectPool<>(factory, 1);
+        Integer obj = pool.borrowObject();
+
+        final CountDownLatch borrowed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            pool.borrowObject();
+            borrowed.countDown();
+            return null;
+        });
+
+        assertFalse(borrowed.await(200, TimeUnit.MILLISECONDS));
+        pool.returnObject(obj);
+        assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, created.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentBorrowNeverExceedsMaxActive() throws Exception {
+        final LockFreeObjectPool<Integer> pool = new LockFreeObjectPool<>(factory, 4);
+        final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger maxInUse = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        final CountDownLatch done = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                Integer obj = pool.borrowObject();
+                maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                inUse.decrementAndGet();
+                pool.returnObject(obj);
+                done.countDown();
+                return null;
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(maxInUse.get() <= 4);
+        assertTrue(created.get() <= 4);
+        assertEquals(0, pool.getNumActive());
+        executor.shutdownNow();
+    }
+}
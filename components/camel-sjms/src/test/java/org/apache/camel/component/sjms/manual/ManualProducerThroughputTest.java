@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.manual;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.sjms.support.JmsTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the throughput of InOnly and InOut producers against an embedded
+ * ActiveMQ broker with 1, 10 and 100 concurrent callers.
+ */
+@Ignore("Manual test")
+public class ManualProducerThroughputTest extends JmsTestSupport {
+
+    private static final int MESSAGES = 10000;
+
+    @Override
+    protected boolean useJmx() {
+        return false;
+    }
+
+    @Test
+    public void testInOnlyThroughput() throws Exception {
+        for (int callers : new int[]{1, 10, 100}) {
+            run("direct:inOnly", callers, false);
+        }
+    }
+
+    @Test
+    public void testInOutThroughput() throws Exception {
+        for (int callers : new int[]{1, 10, 100}) {
+            run("direct:inOut", callers, true);
+        }
+    }
+
+    private void run(final String uri, int callers, final boolean inOut) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        final CountDownLatch latch = new CountDownLatch(MESSAGES);
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < MESSAGES; i++) {
+            final String body = "Message " + i;
+            executor.execute(() -> {
+                if (inOut) {
+                    template.requestBody(uri, body);
+                } else {
+                    template.sendBody(uri, body);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        long taken = watch.taken();
+        executor.shutdownNow();
+
+        log.info("{} with {} callers sent {} messages in {} ms ({} msg/sec)",
+            inOut ? "InOut" : "InOnly", callers, MESSAGES, taken, MESSAGES * 1000L / Math.max(1, taken));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:inOnly")
+                    .to("sjms:queue:throughput.inonly?producerCount=20");
+
+                from("direct:inOut")
+                    .to("sjms:queue:throughput.inout?exchangePattern=InOut&producerCount=20&consumerCount=20&namedReplyTo=throughput.reply");
+
+                from("sjms:queue:throughput.inonly?consumerCount=20")
+                    .to("log:inonly?groupSize=1000");
+
+                from("sjms:queue:throughput.inout?consumerCount=20&exchangePattern=InOut")
+                    .transform(body().prepend("Reply "));
+            }
+        };
+    }
+}
@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.sql;
 
+import java.util.Locale;
+
 import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,6 +38,13 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriPath(description = "Sets the SQL query to perform. You can externalize the query by using file: or classpath: as prefix and specify the location of the file.")
     @Metadata(required = true)
     private String query;
+    @UriParam(label = "producer", description = "If set greater than zero, then the producer collects the exchanges from concurrent callers and executes"
+            + " up to this number of them as a single JDBC batch in one transaction. Each exchange is completed with its own update count. This is intended"
+            + " for statements such as INSERT, UPDATE and DELETE which are called at a high rate with a single row per exchange.")
+    private int microBatchSize;
+    @UriParam(label = "producer", defaultValue = "10", description = "The maximum time in millis to wait for more exchanges before executing a micro batch"
+            + " which has not reached the microBatchSize.")
+    private long microBatchTimeout = 10;
 
     public SqlEndpoint() {
     }
@@ -67,6 +77,17 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         SqlProducer result = new SqlProducer(this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        if (microBatchSize > 0) {
+            if (isBatch() || isUseMessageBodyForSql()) {
+                throw new IllegalArgumentException("The microBatchSize option cannot be used together with batch or useMessageBodyForSql");
+            }
+            String placeholder = isUsePlaceholder() ? getPlaceholder() : null;
+            String resolvedQuery = SqlHelper.resolveQuery(getCamelContext(), query, placeholder);
+            if (resolvedQuery.trim().toLowerCase(Locale.ENGLISH).startsWith("select")) {
+                throw new IllegalArgumentException("The microBatchSize option cannot be used with a SELECT query: " + query);
+            }
+            return new SqlMicroBatchProducer(this, query, getJdbcTemplate(), prepareStrategy, result);
+        }
         return result;
     }
 
@@ -87,4 +108,28 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         this.query = query;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer collects the exchanges from concurrent callers and executes
+     * up to this number of them as a single JDBC batch in one transaction. Each exchange is completed with its own update count.
+     * This is intended for statements such as INSERT, UPDATE and DELETE which are called at a high rate with a single row per exchange.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges before executing a micro batch which has not reached the microBatchSize.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
 }
@@ -0,0 +1,275 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
+
+/**
+ * A producer which coalesces the exchanges from concurrent callers into JDBC batches.
+ * <p/>
+ * The exchanges are collected until <tt>microBatchSize</tt> exchanges are pending, or
+ * <tt>microBatchTimeout</tt> millis have elapsed since the first of them arrived, and are then
+ * executed as JDBC batches in a single transaction, completing each exchange with its own update count.
+ * If the batch fails then the transaction is rolled back and the exchanges are executed one by one,
+ * so each exchange is completed with its own update count or exception.
+ */
+public class SqlMicroBatchProducer extends DefaultAsyncProducer {
+    private final String query;
+    private String resolvedQuery;
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final SqlProducer delegate;
+    private final BlockingQueue<PendingExchange> pending = new LinkedBlockingQueue<>();
+    private ExecutorService executor;
+    private ExecutorService callbackExecutor;
+    private volatile boolean running;
+
+    public SqlMicroBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                                 SqlProducer delegate) {
+        super(endpoint);
+        this.query = query;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            // the generated keys are per statement, a transacted exchange must use the connection of its
+            // own transaction, and once stopped no batches are collected, so such exchanges cannot be batched
+            if (!running || exchange.isTransacted()
+                    || exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class)) {
+                delegate.process(exchange);
+                callback.done(true);
+                return true;
+            }
+
+            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+            String sql = queryHeader != null ? queryHeader : resolvedQuery;
+            String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+            PendingExchange pendingExchange = new PendingExchange(exchange, callback, sql, preparedQuery);
+            pending.add(pendingExchange);
+
+            // if stopped in the meantime then the pending exchanges may already have been drained
+            if (!running && pending.remove(pendingExchange)) {
+                delegate.process(exchange);
+                callback.done(true);
+                return true;
+            }
+            return false;
+        } catch (Throwable e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+        resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+        ServiceHelper.startService(delegate);
+
+        running = true;
+        // the exchanges continue routing on this thread pool, so the next batch can be collected meanwhile
+        callbackExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "SqlMicroBatchCallback");
+        executor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, "SqlMicroBatch");
+        executor.submit(this::collectBatches);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        if (executor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executor);
+            executor = null;
+        }
+
+        // execute the exchanges which has arrived while stopping
+        List<PendingExchange> batch = new ArrayList<>();
+        pending.drainTo(batch);
+        if (!batch.isEmpty()) {
+            executeBatch(batch);
+        }
+        if (callbackExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(callbackExecutor);
+            callbackExecutor = null;
+        }
+
+        ServiceHelper.stopService(delegate);
+        super.doStop();
+    }
+
+    private void collectBatches() {
+        int microBatchSize = getEndpoint().getMicroBatchSize();
+        long microBatchTimeout = getEndpoint().getMicroBatchTimeout();
+        List<PendingExchange> batch = new ArrayList<>(microBatchSize);
+
+        while (running) {
+            try {
+                PendingExchange first = pending.poll(1000, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + microBatchTimeout;
+                while (batch.size() < microBatchSize) {
+                    pending.drainTo(batch, microBatchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= microBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingExchange next = pending.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                executeBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void executeBatch(List<PendingExchange> batch) {
+        // each distinct query needs its own prepared statement
+        final Map<String, List<PendingExchange>> statements = new LinkedHashMap<>();
+        for (PendingExchange exchange : batch) {
+            statements.computeIfAbsent(exchange.preparedQuery, k -> new ArrayList<>()).add(exchange);
+        }
+
+        try {
+            log.trace("Executing micro batch of {} exchanges", batch.size());
+            jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                executeInTransaction(con, statements.values());
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("Error executing micro batch of {} exchanges. Will execute the exchanges one by one. Caused by: {}", batch.size(), e.getMessage());
+            for (PendingExchange exchange : batch) {
+                exchange.exchange.getIn().removeHeader(SqlConstants.SQL_UPDATE_COUNT);
+                try {
+                    delegate.process(exchange.exchange);
+                } catch (Throwable t) {
+                    exchange.exchange.setException(t);
+                }
+            }
+        }
+
+        for (PendingExchange exchange : batch) {
+            AsyncCallback callback = exchange.callback;
+            try {
+                callbackExecutor.execute(() -> callback.done(false));
+            } catch (RejectedExecutionException e) {
+                // the producer is stopping
+                callback.done(false);
+            }
+        }
+    }
+
+    private void executeInTransaction(Connection con, Collection<List<PendingExchange>> statements) throws SQLException {
+        boolean autoCommit = con.getAutoCommit();
+        if (autoCommit) {
+            con.setAutoCommit(false);
+        }
+        try {
+            for (List<PendingExchange> exchanges : statements) {
+                PreparedStatement ps = con.prepareStatement(exchanges.get(0).preparedQuery);
+                try {
+                    int parametersCount = getEndpoint().getParametersCount();
+                    int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+
+                    for (PendingExchange exchange : exchanges) {
+                        // only populate if really needed
+                        if (getEndpoint().isAlwaysPopulateStatement() || expected > 0) {
+                            Object value = exchange.exchange.getIn().getBody();
+                            Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(exchange.sql, exchange.preparedQuery, expected, exchange.exchange, value);
+                            sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                        }
+                        ps.addBatch();
+                    }
+
+                    int[] updateCounts = ps.executeBatch();
+                    for (int i = 0; i < exchanges.size(); i++) {
+                        exchanges.get(i).exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                    }
+                } finally {
+                    closeStatement(ps);
+                }
+            }
+            con.commit();
+        } catch (SQLException | RuntimeException e) {
+            con.rollback();
+            throw e;
+        } finally {
+            if (autoCommit) {
+                con.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final String sql;
+        private final String preparedQuery;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, String sql, String preparedQuery) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+}
@@ -247,6 +247,13 @@ public class SqlProducer extends DefaultProducer {
         try {
             con = jdbcTemplate.getDataSource().getConnection();
             ps = statementCreator.createPreparedStatement(con);
+            // apply the fetch size so the rows are streamed from the database instead of loaded into memory
+            if (jdbcTemplate.getFetchSize() != -1) {
+                ps.setFetchSize(jdbcTemplate.getFetchSize());
+            }
+            if (jdbcTemplate.getMaxRows() != -1) {
+                ps.setMaxRows(jdbcTemplate.getMaxRows());
+            }
 
             int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
 
@@ -31,6 +31,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -71,7 +72,7 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
     private LobHandler lobHandler = new DefaultLobHandler();
     private String repositoryName;
     private boolean returnOldExchange;
-    private JdbcCamelCodec codec = new JdbcCamelCodec();
+    private ExchangeCodec codec = new JdbcCamelCodec();
     private long recoveryInterval = 5000;
     private boolean useRecovery = true;
     private int maximumRedeliveries;
@@ -245,7 +246,7 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
     }
 
     protected void insertAndUpdateHelper(final CamelContext camelContext, final String key, final Exchange exchange, String sql, final boolean idComesFirst) throws Exception {
-        final byte[] data = codec.marshallExchange(camelContext, exchange, allowSerializedHeaders);
+        final byte[] data = codec.marshallExchange(camelContext, exchange, false, allowSerializedHeaders);
         jdbcTemplate.execute(sql,
                 new AbstractLobCreatingPreparedStatementCallback(getLobHandler()) {
                     @Override
@@ -450,6 +451,18 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         this.codec = codec;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return codec;
+    }
+
+    /**
+     * Sets the codec used to store the exchanges, such as {@link org.apache.camel.support.BinaryExchangeCodec}.
+     * By default the exchanges are stored using Java serialization.
+     */
+    public void setExchangeCodec(ExchangeCodec codec) {
+        this.codec = codec;
+    }
+
     public boolean hasHeadersToStoreAsText() {
         return this.headersToStoreAsText != null && !this.headersToStoreAsText.isEmpty();
     }
@@ -0,0 +1,167 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testConcurrentInserts() throws Exception {
+        List<Exchange> exchanges = sendConcurrently(100, 4);
+
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals(1, exchange.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            // the exchanges continue routing on a thread pool instead of the thread collecting the batches
+            String thread = exchange.getIn().getHeader("thread", String.class);
+            assertTrue("Should continue on the callback pool: " + thread, thread.contains("SqlMicroBatchCallback"));
+        }
+        assertEquals(103, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testFailedInsertOnlyFailsItsExchange() throws Exception {
+        // the projects with id 1, 2 and 3 already exist
+        List<Exchange> exchanges = sendConcurrently(20, 1);
+
+        for (Exchange exchange : exchanges) {
+            if (exchange.getIn().getHeader("id", Integer.class) <= 3) {
+                assertNotNull(exchange.getException());
+            } else {
+                assertNull(exchange.getException());
+                assertEquals(1, exchange.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        }
+        assertEquals(20, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testExchangeIsExecutedWhenStopped() throws Exception {
+        Producer producer = context.getEndpoint("sql:insert into projects values (:#id, :#project, :#license)?microBatchSize=10").createProducer();
+        producer.start();
+        producer.stop();
+
+        Exchange exchange = createExchangeWithBody(createProject(4));
+        producer.process(exchange);
+
+        assertNull(exchange.getException());
+        assertEquals(1, exchange.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(4, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testTransactedExchangeIsNotBatched() throws Exception {
+        Exchange exchange = template.request("direct:transacted", e -> e.getIn().setBody(createProject(4)));
+
+        assertNull(exchange.getException());
+        assertEquals(1, exchange.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals(4, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testSelectQueryIsRejected() throws Exception {
+        try {
+            context.getEndpoint("sql:select * from projects?microBatchSize=10").createProducer();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The microBatchSize option cannot be used with a SELECT query"));
+        }
+    }
+
+    private Map<String, Object> createProject(int id) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("id", id);
+        body.put("project", "Project" + id);
+        body.put("license", "ASF");
+        return body;
+    }
+
+    private List<Exchange> sendConcurrently(int count, int firstId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int id = firstId + i;
+            futures.add(executor.submit(() -> template.request("direct:start", exchange -> {
+                exchange.getIn().setBody(createProject(id));
+                exchange.getIn().setHeader("id", id);
+            })));
+        }
+
+        List<Exchange> answer = new ArrayList<>();
+        for (Future<Exchange> future : futures) {
+            answer.add(future.get());
+        }
+        executor.shutdownNow();
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:start")
+                    .to("sql:insert into projects values (:#id, :#project, :#license)?microBatchSize=10&microBatchTimeout=50")
+                    .process(exchange -> exchange.getIn().setHeader("thread", Thread.currentThread().getName()));
+
+                // a large timeout so the exchange would wait for it if it was batched
+                from("direct:transacted")
+                    .process(exchange -> exchange.getUnitOfWork().beginTransactedBy("test"))
+                    .to("sql:insert into projects values (:#id, :#project, :#license)?microBatchSize=10&microBatchTimeout=60000");
+            }
+        };
+    }
+}
@@ -98,6 +98,16 @@ public class SqlProducerOutputTypeStreamListTest extends CamelTestSupport {
         assertThat(resultBodyAt(mock, 2), instanceOf(ProjectModel.class));
     }
 
+    @Test
+    public void testSplitWithTemplateOptions() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        template.sendBody("direct:withSplitMaxRows", "testmsg");
+
+        mock.assertIsSatisfied();
+    }
+
     private Object resultBodyAt(MockEndpoint result, int index) {
         return result.assertExchangeReceived(index).getIn().getBody();
     }
@@ -121,6 +131,12 @@ public class SqlProducerOutputTypeStreamListTest extends CamelTestSupport {
                             .to("mock:result")
                         .end();
 
+                from("direct:withSplitMaxRows")
+                        .to("sql:select * from projects order by id?outputType=StreamList&template.fetchSize=1&template.maxRows=2")
+                        .split(body()).streaming()
+                            .to("mock:result")
+                        .end();
+
                 from("direct:withSplitModel")
                         .to("sql:select * from projects order by id?outputType=StreamList&outputClass=org.apache.camel.component.sql.ProjectModel")
                         .to("log:stream")
@@ -19,6 +19,7 @@ package org.apache.camel.processor.aggregate.jdbc;
 import java.util.Date;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.Test;
 
@@ -63,4 +64,28 @@ public class JdbcExchangeSerializationTest extends AbstractJdbcAggregationTestSu
         assertNull(date);
         assertSame(context, actual.getContext());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBinaryCodecExchangeSerialization() {
+        // an existing exchange stored with java serialization can be read by the binary codec
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Olivier");
+        repo.add(context, "foo", exchange);
+
+        repo.setExchangeCodec(new BinaryExchangeCodec());
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+
+        exchange.getIn().setBody("Bye World");
+        exchange.getIn().setHeader("number", 123);
+        repo.add(context, "foo", exchange);
+
+        actual = repo.get(context, "foo");
+        assertEquals("Bye World", actual.getIn().getBody());
+        assertEquals("Olivier", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("number"));
+        assertSame(context, actual.getContext());
+    }
+}
@@ -44,7 +44,9 @@ import io.undertow.util.HttpString;
 import io.undertow.util.Methods;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
+import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.DefaultAttachment;
 import org.apache.camel.support.DefaultMessage;
@@ -68,6 +70,7 @@ public class DefaultUndertowHttpBinding implements UndertowHttpBinding {
     //use default filter strategy from Camel HTTP
     private HeaderFilterStrategy headerFilterStrategy;
     private Boolean transferException;
+    private boolean useStreaming;
 
     public DefaultUndertowHttpBinding() {
         this.headerFilterStrategy = new UndertowHeaderFilterStrategy();
@@ -95,6 +98,18 @@ public class DefaultUndertowHttpBinding implements UndertowHttpBinding {
         this.transferException = transferException;
     }
 
+    public boolean isUseStreaming() {
+        return useStreaming;
+    }
+
+    /**
+     * Whether the request body is read into a {@link StreamCache}, which is spooled to disk when it is large,
+     * instead of a byte array.
+     */
+    public void setUseStreaming(boolean useStreaming) {
+        this.useStreaming = useStreaming;
+    }
+
     @Override
     public Message toCamelMessage(HttpServerExchange httpExchange, Exchange exchange) throws Exception {
         Message result = new DefaultMessage(exchange.getContext());
@@ -123,7 +138,11 @@ public class DefaultUndertowHttpBinding implements UndertowHttpBinding {
             //extract body by myself if undertow parser didn't handle and the method is allowed to have one
             //body is extracted as byte[] then auto TypeConverter kicks in
             if (Methods.POST.equals(httpExchange.getRequestMethod()) || Methods.PUT.equals(httpExchange.getRequestMethod()) || Methods.PATCH.equals(httpExchange.getRequestMethod())) {
-                result.setBody(readFromChannel(httpExchange.getRequestChannel()));
+                if (useStreaming) {
+                    result.setBody(readFromChannel(httpExchange.getRequestChannel(), exchange));
+                } else {
+                    result.setBody(readFromChannel(httpExchange.getRequestChannel()));
+                }
             } else {
                 result.setBody(null);
             }
@@ -399,6 +418,30 @@ public class DefaultUndertowHttpBinding implements UndertowHttpBinding {
         }
     }
 
+    /**
+     * Reads the channel into a {@link StreamCache}, so at most the spool threshold of the stream caching strategy
+     * is kept in memory.
+     */
+    StreamCache readFromChannel(StreamSourceChannel source, Exchange exchange) throws IOException {
+        // the stream cache is cleaned up when the exchange is done
+        final CachedOutputStream cos = new CachedOutputStream(exchange);
+        final ByteBuffer buffer = ByteBuffer.allocate(cos.getStrategyBufferSize());
+
+        ReadableByteChannel blockingSource = new BlockingReadableByteChannel(source);
+
+        for (;;) {
+            int res = blockingSource.read(buffer);
+            if (res == -1) {
+                return cos.newStreamCache();
+            } else if (res == 0) {
+                LOG.error("Channel did not block");
+            } else {
+                cos.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+    }
+
     class FilePartDataSource extends FileDataSource {
         private String name;
         private String contentType;
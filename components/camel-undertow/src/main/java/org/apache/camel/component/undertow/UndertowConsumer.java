@@ -16,12 +16,19 @@
  */
 package org.apache.camel.component.undertow;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 
 import io.undertow.Handlers;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.form.EagerFormParsingHandler;
@@ -35,11 +42,13 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.component.undertow.UndertowConstants.EventType;
 import org.apache.camel.component.undertow.handlers.CamelWebSocketHandler;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.util.CollectionStringBuffer;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -141,10 +150,17 @@ public class UndertowConsumer extends DefaultConsumer implements HttpHandler {
             getProcessor().process(camelExchange);
         } catch (Exception e) {
             getExceptionHandler().handleException(e);
+        }
+
+        try {
+            // send the response before the unit of work is done, as a streamed body may be cleaned up then
+            sendResponse(httpExchange, camelExchange);
         } finally {
             doneUoW(camelExchange);
         }
+    }
 
+    private void sendResponse(HttpServerExchange httpExchange, Exchange camelExchange) throws IOException {
         Object body = getResponseBody(httpExchange, camelExchange);
         TypeConverter tc = getEndpoint().getCamelContext().getTypeConverter();
 
@@ -152,6 +168,36 @@ public class UndertowConsumer extends DefaultConsumer implements HttpHandler {
             log.trace("No payload to send as reply for exchange: {}", camelExchange);
             httpExchange.getResponseHeaders().put(ExchangeHeaders.CONTENT_TYPE, MimeMappings.DEFAULT_MIME_MAPPINGS.get("txt"));
             httpExchange.getResponseSender().send("No response available");
+        } else if (getEndpoint().isUseStreaming() && body instanceof File) {
+            File file = (File) body;
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            httpExchange.getResponseHeaders().put(ExchangeHeaders.CONTENT_LENGTH, channel.size());
+            // the file is transferred with FileChannel#transferTo where possible, without copying it to the heap
+            httpExchange.getResponseSender().transferFrom(channel, new IoCallback() {
+                @Override
+                public void onComplete(HttpServerExchange exchange, Sender sender) {
+                    IOHelper.close(channel);
+                    IoCallback.END_EXCHANGE.onComplete(exchange, sender);
+                }
+
+                @Override
+                public void onException(HttpServerExchange exchange, Sender sender, IOException exception) {
+                    IOHelper.close(channel);
+                    IoCallback.END_EXCHANGE.onException(exchange, sender, exception);
+                }
+            });
+            return;
+        } else if (getEndpoint().isUseStreaming() && body instanceof InputStream) {
+            if (body instanceof StreamCache) {
+                // the stream cache may already have been read by the route
+                ((StreamCache) body).reset();
+            }
+            // this is a worker thread so we can write the response as it is read
+            httpExchange.startBlocking();
+            try (InputStream is = (InputStream) body; OutputStream os = httpExchange.getOutputStream()) {
+                IOHelper.copy(is, os);
+            }
+            return;
         } else {
             ByteBuffer bodyAsByteBuffer = tc.convertTo(ByteBuffer.class, body);
             httpExchange.getResponseSender().send(bodyAsByteBuffer);
@@ -94,7 +94,7 @@ public class UndertowEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     private Boolean sendToAll;
     @UriParam(label = "producer,websocket", defaultValue = "30000")
     private Integer sendTimeout = 30000;
-    @UriParam(label = "consumer,websocket", defaultValue = "false")
+    @UriParam(label = "consumer", defaultValue = "false")
     private boolean useStreaming;
     @UriParam(label = "consumer,websocket", defaultValue = "false")
     private boolean fireWebSocketChannelEvents;
@@ -249,9 +249,11 @@ public class UndertowEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     public UndertowHttpBinding getUndertowHttpBinding() {
         if (undertowHttpBinding == null) {
             // create a new binding and use the options from this endpoint
-            undertowHttpBinding = new DefaultUndertowHttpBinding();
-            undertowHttpBinding.setHeaderFilterStrategy(getHeaderFilterStrategy());
-            undertowHttpBinding.setTransferException(getTransferException());
+            DefaultUndertowHttpBinding binding = new DefaultUndertowHttpBinding();
+            binding.setHeaderFilterStrategy(getHeaderFilterStrategy());
+            binding.setTransferException(getTransferException());
+            binding.setUseStreaming(isUseStreaming());
+            undertowHttpBinding = binding;
         }
         return undertowHttpBinding;
     }
@@ -359,9 +361,12 @@ public class UndertowEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     }
 
     /**
-     * if {@code true}, text and binary messages coming through a WebSocket will be wrapped as java.io.Reader and
-     * java.io.InputStream respectively before they are passed to an {@link Exchange}; otherwise they will be passed as
-     * String and byte[] respectively.
+     * For HTTP endpoint: if {@code true}, the request body is read into a stream cache, which is spooled to disk when
+     * it is large, instead of a byte[]; and java.io.InputStream and java.io.File response bodies are written to the
+     * client as they are read, instead of being read into memory first.
+     * For WebSocket endpoint: if {@code true}, text and binary messages coming through a WebSocket will be wrapped as
+     * java.io.Reader and java.io.InputStream respectively before they are passed to an {@link Exchange}; otherwise they
+     * will be passed as String and byte[] respectively.
      */
     public void setUseStreaming(boolean useStreaming) {
         this.useStreaming = useStreaming;
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.undertow;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class UndertowStreamingTest extends BaseUndertowTest {
+
+    private static final byte[] PAYLOAD = createPayload();
+
+    @Test
+    public void testRequestBodyAsStreamCache() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:upload");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(StreamCache.class);
+
+        String response = template.requestBody("undertow:http://localhost:{{port}}/upload", PAYLOAD, String.class);
+        assertEquals(String.valueOf(PAYLOAD.length), response);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamResponse() throws Exception {
+        byte[] response = template.requestBody("undertow:http://localhost:{{port}}/echo", PAYLOAD, byte[].class);
+        assertTrue("The response should be the request", Arrays.equals(PAYLOAD, response));
+    }
+
+    @Test
+    public void testFileResponse() throws Exception {
+        File file = new File("target/undertow-streaming/payload.bin");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), PAYLOAD);
+
+        byte[] response = template.requestBodyAndHeader("undertow:http://localhost:{{port}}/file", null, "file", file.getPath(), byte[].class);
+        assertTrue("The response should be the file", Arrays.equals(PAYLOAD, response));
+    }
+
+    private static byte[] createPayload() {
+        // larger than the spool threshold of the stream cache
+        byte[] payload = new byte[1024 * 1024];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        return payload;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("undertow:http://localhost:{{port}}/upload?useStreaming=true")
+                    .to("mock:upload")
+                    .convertBodyTo(byte[].class)
+                    .setBody().simple("${body.length}", String.class);
+
+                from("undertow:http://localhost:{{port}}/echo?useStreaming=true")
+                    .to("log:echo?showBody=false");
+
+                from("undertow:http://localhost:{{port}}/file?useStreaming=true")
+                    .process(exchange -> exchange.getIn().setBody(new File(exchange.getIn().getHeader("file", String.class))));
+            }
+        };
+    }
+}
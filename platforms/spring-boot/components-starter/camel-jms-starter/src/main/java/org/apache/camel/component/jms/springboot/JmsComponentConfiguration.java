@@ -1835,6 +1835,19 @@ public class JmsComponentConfiguration
          * value such as CACHE_CONSUMER or CACHE_SESSION.
          */
         private String replyToCacheLevelName;
+        /**
+         * The consumer type of the reply consumer when doing request/reply over
+         * JMS, which can be one of: Default or Simple. This option only applies
+         * when using exclusive reply queues (replyToType=Exclusive). Default
+         * will use
+         * org.springframework.jms.listener.DefaultMessageListenerContainer
+         * which polls for reply messages. Simple will use
+         * org.springframework.jms.listener.SimpleMessageListenerContainer which
+         * registers a JMS MessageListener, so the broker can push and prefetch
+         * the reply messages, which gives a higher throughput with many
+         * concurrent callers.
+         */
+        private ConsumerType replyToConsumerType = ConsumerType.Default;
         /**
          * Whether to allow sending messages with no body. If this option is
          * false and the message body is null, then an JMSException is thrown.
@@ -1954,6 +1967,23 @@ public class JmsComponentConfiguration
          * 8601 standard.
          */
         private Boolean formatDateHeadersToIso8601 = false;
+        /**
+         * Sets delivery delay to use for send calls for JMS.
+         */
+        private Long deliveryDelay = -1L;
+        /**
+         * Consumer priorities allow you to ensure that high priority consumers
+         * receive messages while they are active. Normally, active consumers
+         * connected to a queue receive messages from it in a round-robin
+         * fashion. When consumer priorities are in use, messages are delivered
+         * round-robin if multiple active consumers exist with the same high
+         * priority. Messages will only going to lower priority consumers when
+         * the high priority consumers do not have credit available to consume
+         * the message, or those high priority consumers have declined to accept
+         * the message (for instance because it does not meet the criteria of
+         * any selectors associated with the consumer).
+         */
+        private Integer consumerPriority;
 
         public ConsumerType getConsumerType() {
             return consumerType;
@@ -2591,6 +2621,14 @@ public class JmsComponentConfiguration
             this.replyToCacheLevelName = replyToCacheLevelName;
         }
 
+        public ConsumerType getReplyToConsumerType() {
+            return replyToConsumerType;
+        }
+
+        public void setReplyToConsumerType(ConsumerType replyToConsumerType) {
+            this.replyToConsumerType = replyToConsumerType;
+        }
+
         public Boolean getAllowNullBody() {
             return allowNullBody;
         }
@@ -2706,5 +2744,21 @@ public class JmsComponentConfiguration
                 Boolean formatDateHeadersToIso8601) {
             this.formatDateHeadersToIso8601 = formatDateHeadersToIso8601;
         }
+
+        public Long getDeliveryDelay() {
+            return deliveryDelay;
+        }
+
+        public void setDeliveryDelay(Long deliveryDelay) {
+            this.deliveryDelay = deliveryDelay;
+        }
+
+        public Integer getConsumerPriority() {
+            return consumerPriority;
+        }
+
+        public void setConsumerPriority(Integer consumerPriority) {
+            this.consumerPriority = consumerPriority;
+        }
     }
 }
\ No newline at end of file
@@ -297,6 +297,27 @@ public class KafkaComponentConfiguration
          * Camel's error handler.
          */
         private Boolean breakOnFirstError = false;
+        /**
+         * Whether the consumer should process the records of a partition
+         * returned by a poll as a single exchange. The message body is a
+         * java.util.List of exchanges, one for each record with the record
+         * details as headers, and the offset is committed after the whole batch
+         * has been processed. The maximum size of a batch is controlled by the
+         * option maxPollRecords, and how long the broker waits to fill a batch
+         * by the options fetchMinBytes and fetchWaitMaxMs.
+         */
+        private Boolean batching = false;
+        /**
+         * Number of threads used to process the records of the partitions
+         * returned by a poll in parallel. The records of each partition are
+         * processed in order, so ordering is preserved per partition, and the
+         * offsets are committed when all the records of the poll have been
+         * processed. This allows to use many cores for processing without
+         * adding consumers to the consumer group. This option cannot be used
+         * together with allowManualCommit or batching. By default the records
+         * are processed by the thread polling the records.
+         */
+        private Integer parallelProcessingPoolSize;
         /**
          * URL of the Kafka brokers to use. The format is
          * host1:port1,host2:port2, and the list can be a subset of brokers or a
@@ -924,6 +945,23 @@ public class KafkaComponentConfiguration
             this.breakOnFirstError = breakOnFirstError;
         }
 
+        public Boolean getBatching() {
+            return batching;
+        }
+
+        public void setBatching(Boolean batching) {
+            this.batching = batching;
+        }
+
+        public Integer getParallelProcessingPoolSize() {
+            return parallelProcessingPoolSize;
+        }
+
+        public void setParallelProcessingPoolSize(
+                Integer parallelProcessingPoolSize) {
+            this.parallelProcessingPoolSize = parallelProcessingPoolSize;
+        }
+
         public String getBrokers() {
             return brokers;
         }
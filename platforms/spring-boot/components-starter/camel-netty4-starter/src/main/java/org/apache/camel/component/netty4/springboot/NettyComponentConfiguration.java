@@ -302,6 +302,16 @@ public class NettyComponentConfiguration
          * correlationManager option for more details.
          */
         private Boolean producerPoolEnabled = true;
+        /**
+         * The number of channels (aka connections) the producer shares between
+         * all its messages when the producer pool is disabled. The messages are
+         * sent over the channels in a round robin fashion, and each channel is
+         * used for many concurrent messages, which requires a correlation
+         * manager when doing request/reply, such as the
+         * ExpressionCorrelationManager. See also the producerPoolEnabled and
+         * correlationManager options for more details.
+         */
+        private Integer producerSharedChannels = 1;
         /**
          * This option supports connection less udp sending which is a real fire
          * and forget. A connected udp send receive the PortUnreachableException
@@ -318,6 +328,16 @@ public class NettyComponentConfiguration
          * into ByteBuf before sending it out.
          */
         private Boolean useByteBuf = false;
+        /**
+         * For TCP only. If enabled then the consumer keeps a received ByteBuf
+         * as the message body, instead of copying it into a String or byte
+         * array on the event loop. The buffer is retained until the Exchange is
+         * done, and the type converters read directly from it, so the body must
+         * be converted if it is needed after the exchange is done. When using
+         * textline then only the frames are decoded, and the lines are kept as
+         * ByteBuf bodies. This option is not supported by the producer.
+         */
+        private Boolean zeroCopy = false;
         /**
          * For UDP only. If enabled the using byte array codec instead of Java
          * serialization protocol.
@@ -783,6 +803,14 @@ public class NettyComponentConfiguration
             this.producerPoolEnabled = producerPoolEnabled;
         }
 
+        public Integer getProducerSharedChannels() {
+            return producerSharedChannels;
+        }
+
+        public void setProducerSharedChannels(Integer producerSharedChannels) {
+            this.producerSharedChannels = producerSharedChannels;
+        }
+
         public Boolean getUdpConnectionlessSending() {
             return udpConnectionlessSending;
         }
@@ -807,6 +835,14 @@ public class NettyComponentConfiguration
             this.useByteBuf = useByteBuf;
         }
 
+        public Boolean getZeroCopy() {
+            return zeroCopy;
+        }
+
+        public void setZeroCopy(Boolean zeroCopy) {
+            this.zeroCopy = zeroCopy;
+        }
+
         public Boolean getUdpByteArrayCodec() {
             return udpByteArrayCodec;
         }
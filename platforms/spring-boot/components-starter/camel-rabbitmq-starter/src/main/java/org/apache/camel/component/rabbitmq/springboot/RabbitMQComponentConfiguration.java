@@ -170,6 +170,21 @@ public class RabbitMQComponentConfiguration
      * RabbitMQ server
      */
     private Long publisherAcknowledgementsTimeout;
+    /**
+     * When true, the message will be published with publisher acknowledgements
+     * turned on, but instead of blocking until the broker confirms the message,
+     * the exchange is continued asynchronously when the basic.ack or basic.nack
+     * for its delivery tag is received. This option has no effect when
+     * guaranteedDeliveries is enabled.
+     */
+    private Boolean publisherAcknowledgementsAsync = false;
+    /**
+     * The maximum number of published messages waiting for a publisher
+     * acknowledgement, when publisherAcknowledgementsAsync is enabled.
+     * Publishing blocks when this many messages have not yet been confirmed.
+     * Must be a positive number.
+     */
+    private Integer publisherAcknowledgementsMaxOutstanding = 1000;
     /**
      * When true, an exception will be thrown when the message cannot be
      * delivered (basic.return) and the message is marked as mandatory.
@@ -511,6 +526,24 @@ public class RabbitMQComponentConfiguration
         this.publisherAcknowledgementsTimeout = publisherAcknowledgementsTimeout;
     }
 
+    public Boolean getPublisherAcknowledgementsAsync() {
+        return publisherAcknowledgementsAsync;
+    }
+
+    public void setPublisherAcknowledgementsAsync(
+            Boolean publisherAcknowledgementsAsync) {
+        this.publisherAcknowledgementsAsync = publisherAcknowledgementsAsync;
+    }
+
+    public Integer getPublisherAcknowledgementsMaxOutstanding() {
+        return publisherAcknowledgementsMaxOutstanding;
+    }
+
+    public void setPublisherAcknowledgementsMaxOutstanding(
+            Integer publisherAcknowledgementsMaxOutstanding) {
+        this.publisherAcknowledgementsMaxOutstanding = publisherAcknowledgementsMaxOutstanding;
+    }
+
     public Boolean getGuaranteedDeliveries() {
         return guaranteedDeliveries;
     }
@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeCodec;
+import org.apache.camel.support.SerializationExchangeCodec;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the {@link ExchangeCodec} implementations used by the persistent aggregation repositories,
+ * with a text body, a byte array body and an aggregated body of many parts.
+ */
+public class ExchangeCodecTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"serialization", "binary"})
+        String codec;
+
+        @Param({"text", "bytes", "parts"})
+        String body;
+
+        CamelContext camel;
+        ExchangeCodec exchangeCodec;
+        Exchange exchange;
+        byte[] data;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            exchangeCodec = "binary".equals(codec) ? new BinaryExchangeCodec() : new SerializationExchangeCodec();
+
+            exchange = new DefaultExchange(camel);
+            if ("text".equals(body)) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < 100; i++) {
+                    sb.append("Hello World ");
+                }
+                exchange.getIn().setBody(sb.toString());
+            } else if ("bytes".equals(body)) {
+                exchange.getIn().setBody(new byte[64 * 1024]);
+            } else {
+                List<Object> parts = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    parts.add("Message " + i);
+                }
+                exchange.getIn().setBody(parts);
+            }
+            for (int i = 0; i < 10; i++) {
+                exchange.getIn().setHeader("header" + i, i);
+            }
+            exchange.getIn().setHeader("CamelFileName", "hello.txt");
+            exchange.setProperty(Exchange.AGGREGATED_SIZE, 1000);
+            exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "foo");
+
+            data = exchangeCodec.marshallExchange(camel, exchange, false, false);
+        }
+    }
+
+    @Benchmark
+    public void marshall(BenchmarkState state, Blackhole bh) throws Exception {
+        bh.consume(state.exchangeCodec.marshallExchange(state.camel, state.exchange, false, false));
+    }
+
+    @Benchmark
+    public void unmarshall(BenchmarkState state, Blackhole bh) throws Exception {
+        bh.consume(state.exchangeCodec.unmarshallExchange(state.camel, state.data));
+    }
+
+}
@@ -0,0 +1,163 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.jms.JmsComponent;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+/**
+ * Tests InOut round trips over JMS against an embedded ActiveMQ broker with 10, 100 or 1000 concurrent callers,
+ * using temporary reply queues, or an exclusive reply queue with the default or the simple reply consumer.
+ */
+public class JmsRequestReplyTest {
+
+    private static final int REQUESTS = 1000;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.SECONDS)
+            .warmupTime(TimeValue.seconds(2))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"10", "100", "1000"})
+        int callers;
+
+        @Param({"temporary", "exclusive", "exclusiveSimple"})
+        String replyTo;
+
+        CamelContext camel;
+        CachingConnectionFactory connectionFactory;
+        AsyncProcessor producer;
+        Endpoint endpoint;
+        Semaphore inFlight;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            ActiveMQConnectionFactory amq = new ActiveMQConnectionFactory("vm://jmh-broker?broker.persistent=false&broker.useJmx=false");
+            amq.setCopyMessageOnSend(false);
+            amq.setOptimizeAcknowledge(true);
+            amq.setOptimizedMessageDispatch(true);
+            connectionFactory = new CachingConnectionFactory(amq);
+            connectionFactory.setSessionCacheSize(100);
+
+            camel = new DefaultCamelContext();
+            camel.addComponent("activemq", JmsComponent.jmsComponentAutoAcknowledge(connectionFactory));
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    // echo server
+                    from("activemq:queue:echo?concurrentConsumers=20").transform(body());
+                }
+            });
+            camel.start();
+
+            String uri = "activemq:queue:echo?requestTimeout=30000";
+            if ("exclusive".equals(replyTo)) {
+                uri += "&replyTo=echo.reply&replyToType=Exclusive&replyToConcurrentConsumers=4";
+            } else if ("exclusiveSimple".equals(replyTo)) {
+                uri += "&replyTo=echo.reply&replyToType=Exclusive&replyToConcurrentConsumers=4&replyToConsumerType=Simple";
+            }
+            endpoint = camel.getEndpoint(uri);
+            Producer p = endpoint.createProducer();
+            p.start();
+            producer = (AsyncProcessor) p;
+            inFlight = new Semaphore(callers);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            ((Producer) producer).stop();
+            camel.stop();
+            connectionFactory.destroy();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void requestReply(BenchmarkState state) throws Exception {
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            // at most the given number of callers waits for a reply at the same time
+            state.inFlight.acquire();
+            Exchange exchange = state.endpoint.createExchange(ExchangePattern.InOut);
+            exchange.getIn().setBody("Message " + i);
+            state.producer.process(exchange, doneSync -> {
+                if (exchange.getException() != null) {
+                    failure.set(exchange.getException());
+                }
+                state.inFlight.release();
+                latch.countDown();
+            });
+        }
+        if (!latch.await(60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timeout waiting for " + latch.getCount() + " replies");
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+}
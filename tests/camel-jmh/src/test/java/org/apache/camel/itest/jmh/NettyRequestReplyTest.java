@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.net.ServerSocket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.netty4.ExpressionCorrelationManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.SimpleRegistry;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.apache.camel.builder.SimpleBuilder.simple;
+
+/**
+ * Tests request/reply with the netty producer against a local echo server with 1000 concurrent requests,
+ * using either a pooled channel per request or a few shared channels with a correlation manager.
+ */
+public class NettyRequestReplyTest {
+
+    private static final int CONCURRENCY = 1000;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.SECONDS)
+            .warmupTime(TimeValue.seconds(2))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"pooled", "multiplexed"})
+        String mode;
+
+        CamelContext camel;
+        Endpoint endpoint;
+        AsyncProcessor producer;
+        AtomicLong counter = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+
+            SimpleRegistry registry = new SimpleRegistry();
+            registry.put("manager", new ExpressionCorrelationManager(simple("${body}")));
+            camel = new DefaultCamelContext(registry);
+            final String server = "netty4:tcp://localhost:" + port + "?textline=true&sync=true";
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    // echo server
+                    from(server).transform(body());
+                }
+            });
+            camel.start();
+
+            String uri = server;
+            if ("multiplexed".equals(mode)) {
+                uri += "&producerPoolEnabled=false&producerSharedChannels=4&correlationManager=#manager";
+            }
+            endpoint = camel.getEndpoint(uri);
+            Producer p = endpoint.createProducer();
+            p.start();
+            producer = (AsyncProcessor) p;
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            ((Producer) producer).stop();
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public void requestReply(BenchmarkState state) throws Exception {
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            Exchange exchange = state.endpoint.createExchange(ExchangePattern.InOut);
+            exchange.getIn().setBody("Message " + state.counter.incrementAndGet());
+            state.producer.process(exchange, doneSync -> {
+                if (exchange.getException() != null) {
+                    failure.set(exchange.getException());
+                }
+                latch.countDown();
+            });
+        }
+        if (!latch.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timeout waiting for " + latch.getCount() + " replies");
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+}